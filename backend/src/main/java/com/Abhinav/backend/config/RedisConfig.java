@@ -15,8 +15,10 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.listener.PatternTopic;
@@ -135,8 +137,27 @@ public class RedisConfig {
                 "matchHistory",
                 defaultConfig.entryTtl(Duration.ofMinutes(5))
         );
+        cacheConfigurations.put(
+                "problemDetails",
+                defaultConfig.entryTtl(Duration.ofMinutes(30))
+        );
+        cacheConfigurations.put(
+                "problemDetailPages",
+                defaultConfig.entryTtl(Duration.ofMinutes(30))
+        );
+        cacheConfigurations.put(
+                "problemStatementPointers",
+                defaultConfig.entryTtl(Duration.ofMinutes(30))
+        );
+        cacheConfigurations.put(
+                "usernames",
+                defaultConfig.entryTtl(Duration.ofHours(6))
+        );
+
+        // SCAN rather than KEYS, so evicting a tag group never blocks Redis (see CacheInvalidator).
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(500));
 
-        return RedisCacheManager.builder(connectionFactory)
+        return RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
@@ -0,0 +1,100 @@
+package com.Abhinav.backend.core.cache;
+
+import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
+import com.Abhinav.backend.features.authentication.repository.AuthenticationUserRepository;
+import com.Abhinav.backend.features.duel.events.DuelEndedEvent;
+import com.Abhinav.backend.features.match.events.MatchEndedEvent;
+import com.Abhinav.backend.features.problem.events.ProblemChangedEvent;
+import com.Abhinav.backend.features.submission.events.SubmissionCreatedEvent;
+import com.Abhinav.backend.features.submission.events.SubmissionJudgedEvent;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Maps domain events to the exact cache entries they make stale. Runs after commit, so a read
+ * racing the write cannot put the old value back. Events published outside a transaction are
+ * handled immediately.
+ *
+ * <ul>
+ *   <li>submission created: that user's profile (heatmap)</li>
+ *   <li>submission judged, first solve only: that user's profile (solved and per-tag counts)</li>
+ *   <li>match ended, duel ended: both players' profiles (duel stats) and match history pages</li>
+ *   <li>problem changed: its pre-rendered detail page and statement pointer under every slug it had</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final CacheInvalidator cacheInvalidator;
+    private final AuthenticationUserRepository userRepository;
+
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSubmissionCreated(SubmissionCreatedEvent event) {
+        evictProfiles(List.of(event.getUserId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSubmissionJudged(SubmissionJudgedEvent event) {
+        if (event.isFirstSolve()) {
+            evictProfiles(List.of(event.getUserId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMatchEnded(MatchEndedEvent event) {
+        logger.info("[CACHE_INVALIDATION] Match {} ended ({}). Evicting caches for players {}.", event.getMatchId(), event.getStatus(), event.getPlayerIds());
+        evictProfiles(event.getPlayerIds());
+        evictMatchHistory(event.getPlayerIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDuelEnded(DuelEndedEvent event) {
+        logger.info("[CACHE_INVALIDATION] Duel {} ended. Evicting caches for players {}.", event.getDuelId(), event.getPlayerIds());
+        evictProfiles(event.getPlayerIds());
+        evictMatchHistory(event.getPlayerIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProblemChanged(ProblemChangedEvent event) {
+        for (String slug : event.getSlugs()) {
+            try {
+                cacheInvalidator.evict("problemDetailPages", slug);
+                cacheInvalidator.evict("problemStatementPointers", slug);
+            } catch (Exception e) {
+                logger.error("[CACHE_INVALIDATION] Failed to evict detail page for problem {} ({}). It expires with its TTL.", event.getProblemId(), slug, e);
+            }
+        }
+    }
+
+
+    // Profiles are cached by username.
+    private void evictProfiles(List<Long> userIds) {
+        try {
+            for (AuthenticationUser user : userRepository.findAllById(userIds)) {
+                cacheInvalidator.evict("userProfiles", user.resolveUsername());
+            }
+        } catch (Exception e) {
+            logger.error("[CACHE_INVALIDATION] Failed to evict profiles for users {}. They expire with their TTL.", userIds, e);
+        }
+    }
+
+    private void evictMatchHistory(List<Long> userIds) {
+        for (Long userId : userIds) {
+            try {
+                cacheInvalidator.evict(CacheTag.matchHistoryOf(userId));
+            } catch (Exception e) {
+                logger.error("[CACHE_INVALIDATION] Failed to evict match history for user {}. It expires with its TTL.", userId, e);
+            }
+        }
+    }
+}
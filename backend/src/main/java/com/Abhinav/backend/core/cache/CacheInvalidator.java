@@ -0,0 +1,45 @@
+package com.Abhinav.backend.core.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Evicts single cache keys or whole {@link CacheTag} groups. Group eviction matches the tag's key
+ * prefix in Redis, using the SCAN-based cache writer configured in {@code RedisConfig}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidator.class);
+
+    private final CacheManager cacheManager;
+
+
+    public void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+            logger.debug("[CACHE_INVALIDATION] Evicted {}::{}", cacheName, key);
+        }
+    }
+
+    public void evict(CacheTag tag) {
+        Cache cache = cacheManager.getCache(tag.cacheName());
+        if (cache instanceof RedisCache redisCache) {
+            String pattern = redisCache.getCacheConfiguration().getKeyPrefixFor(tag.cacheName()) + tag.keyPrefix() + "*";
+            redisCache.getNativeCache().clean(tag.cacheName(), pattern.getBytes(StandardCharsets.UTF_8));
+            logger.debug("[CACHE_INVALIDATION] Evicted tag {}::{}*", tag.cacheName(), tag.keyPrefix());
+        } else if (cache != null) {
+            // Caches without key patterns can only be cleared as a whole.
+            cache.clear();
+        }
+    }
+}
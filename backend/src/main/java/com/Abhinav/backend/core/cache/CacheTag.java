@@ -0,0 +1,12 @@
+package com.Abhinav.backend.core.cache;
+
+/**
+ * A group of entries in one cache that share a key prefix, e.g. every page of a user's match
+ * history. Evicting the tag removes the whole group without touching other users' entries.
+ */
+public record CacheTag(String cacheName, String keyPrefix) {
+
+    public static CacheTag matchHistoryOf(Long userId) {
+        return new CacheTag("matchHistory", userId + "-");
+    }
+}
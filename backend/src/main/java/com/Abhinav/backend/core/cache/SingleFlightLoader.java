@@ -0,0 +1,137 @@
+package com.Abhinav.backend.core.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent cache misses for the same key so the expensive load runs once.
+ * <ul>
+ *   <li>Within this JVM, callers that miss while a load is in flight wait on that load's future.</li>
+ *   <li>Across nodes, the loading caller first takes a short Redis lease. A node that finds the lease
+ *       held polls the cache until the holder has filled it, and only loads itself if the lease
+ *       disappears or expires without a value showing up.</li>
+ * </ul>
+ * The {@code loader} is expected to write the cache itself; {@code cacheLookup} reads it back.
+ */
+@Component
+public class SingleFlightLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlightLoader.class);
+
+    private static final String LEASE_PREFIX = "single-flight:";
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration leaseDuration;
+    private final Duration pollInterval;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightLoader(StringRedisTemplate redisTemplate,
+                              @Value("${cache.single-flight.lease:10s}") Duration leaseDuration,
+                              @Value("${cache.single-flight.poll-interval:50ms}") Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.leaseDuration = leaseDuration;
+        this.pollInterval = pollInterval;
+    }
+
+
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> cacheLookup, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            logger.debug("[SINGLE_FLIGHT key={}] Joining in-flight load.", key);
+            return (T) join(existing);
+        }
+
+        try {
+            T value = loadAcrossNodes(key, cacheLookup, loader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+
+    private <T> T loadAcrossNodes(String key, Supplier<T> cacheLookup, Supplier<T> loader) {
+        String leaseKey = LEASE_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + leaseDuration.toNanos();
+
+        while (true) {
+            if (tryAcquire(leaseKey, token)) {
+                try {
+                    // Another node may have filled the cache between our miss and taking the lease.
+                    T cached = cacheLookup.get();
+                    return cached != null ? cached : loader.get();
+                } finally {
+                    release(leaseKey, token);
+                }
+            }
+
+            T cached = cacheLookup.get();
+            if (cached != null) {
+                logger.debug("[SINGLE_FLIGHT key={}] Another node filled the cache.", key);
+                return cached;
+            }
+            if (System.nanoTime() > deadline) {
+                logger.warn("[SINGLE_FLIGHT key={}] Lease holder did not fill the cache in {}. Loading locally.", key, leaseDuration);
+                return loader.get();
+            }
+            sleep(key);
+        }
+    }
+
+    private boolean tryAcquire(String leaseKey, String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, token, leaseDuration));
+        } catch (Exception e) {
+            // Without Redis there is nothing to coordinate on; fall back to in-JVM coalescing only.
+            logger.warn("[SINGLE_FLIGHT] Could not take lease '{}': {}", leaseKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void release(String leaseKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (Exception e) {
+            logger.warn("[SINGLE_FLIGHT] Could not release lease '{}'. It expires on its own: {}", leaseKey, e.getMessage());
+        }
+    }
+
+    private void sleep(String key) {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for another node to load " + key, e);
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+        }
+    }
+}
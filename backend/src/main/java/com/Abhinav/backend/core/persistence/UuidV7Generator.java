@@ -0,0 +1,35 @@
+package com.Abhinav.backend.core.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UuidV7Generator implements IdentifierGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Last (millis << 12 | counter) handed out, so ids stay ordered within one millisecond and across clock steps back.
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return next();
+    }
+
+    public static UUID next() {
+        long timestampAndCounter = LAST_TIMESTAMP_AND_COUNTER.updateAndGet(last -> {
+            long now = System.currentTimeMillis() << 12;
+            return Math.max(now, last + 1);
+        });
+
+        long millis = timestampAndCounter >>> 12;
+        long counter = timestampAndCounter & 0xFFF;
+
+        long mostSignificant = (millis << 16) | 0x7000L | counter;
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
@@ -5,6 +5,7 @@ import com.Abhinav.backend.features.authentication.model.Role;
 import com.Abhinav.backend.features.authentication.model.RoleType;
 import com.Abhinav.backend.features.authentication.repository.AuthenticationUserRepository;
 import com.Abhinav.backend.features.authentication.repository.RoleRepository;
+import com.Abhinav.backend.features.authentication.service.UsernameService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +26,7 @@ public class AdminUserInitializer implements CommandLineRunner {
     private final AuthenticationUserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UsernameService usernameService;
 
 
     @Value("${admin.default-email}")
@@ -51,7 +53,7 @@ public class AdminUserInitializer implements CommandLineRunner {
 
             adminUser.setRoles(new HashSet<>(Set.of(adminRole, setterRole, userRole)));
 
-            userRepository.save(adminUser);
+            usernameService.saveWithUniqueUsername(adminUser);
             logger.info(">>> Root Admin user created successfully!");
         } else {
             logger.info(">>> Admin user already exists. Skipping creation.");
@@ -0,0 +1,52 @@
+package com.Abhinav.backend.core.startup;
+
+import com.Abhinav.backend.features.problem.model.Problem;
+import com.Abhinav.backend.features.problem.model.ProblemStatus;
+import com.Abhinav.backend.features.problem.repository.ProblemRepository;
+import com.Abhinav.backend.features.problem.service.ProblemStatementPublisher;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes statements for problems that were published before statement publishing existed, or
+ * whose last upload failed. Does nothing when publishing is disabled.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProblemStatementBackfill implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProblemStatementBackfill.class);
+
+    private final ProblemRepository problemRepository;
+    private final ProblemStatementPublisher statementPublisher;
+
+
+    @Override
+    public void run(String... args) {
+        if (!statementPublisher.isEnabled()) {
+            return;
+        }
+        List<Problem> unpublished = problemRepository.findByStatusAndStatementKeyIsNull(ProblemStatus.PUBLISHED);
+        if (unpublished.isEmpty()) {
+            return;
+        }
+
+        logger.info(">>> Publishing statements for {} problems...", unpublished.size());
+        int published = 0;
+        for (Problem problem : unpublished) {
+            try {
+                problem.setStatementKey(statementPublisher.publish(problem));
+                problemRepository.save(problem);
+                published++;
+            } catch (Exception e) {
+                logger.error(">>> Could not publish statement for problem {}. Will retry on next start.", problem.getId(), e);
+            }
+        }
+        logger.info(">>> Published {} of {} statements.", published, unpublished.size());
+    }
+}
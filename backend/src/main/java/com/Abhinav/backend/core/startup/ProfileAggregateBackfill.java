@@ -0,0 +1,93 @@
+package com.Abhinav.backend.core.startup;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Builds the per-user profile aggregate tables from the submission history once. From then on they
+ * are maintained incrementally.
+ * <p>
+ * Whether it has run is recorded in {@code startup_backfills}, not inferred from the aggregate
+ * tables, because live submissions can start filling those before this runner gets to them. The
+ * build runs under a transaction-scoped advisory lock so concurrently starting instances wait for
+ * each other and then see the marker.
+ * <p>
+ * The aggregate tables are locked against writes for the length of the build, so live submissions
+ * on any replica wait for it instead of racing it. Every increment the live path committed before
+ * the lock is then covered by the submissions the build reads, and every later one is applied on
+ * top of the build's result, so the counts it writes replace what is there.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileAggregateBackfill implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileAggregateBackfill.class);
+
+    private static final String MARKER = "profile-aggregates";
+    private static final long LOCK_KEY = 0x50726f66416767L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+
+    @Override
+    public void run(String... args) {
+        Boolean hasHistory = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM submissions)", Boolean.class);
+        if (!Boolean.TRUE.equals(hasHistory)) {
+            return;
+        }
+
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS startup_backfills (
+                name VARCHAR(100) PRIMARY KEY,
+                completed_at TIMESTAMP NOT NULL
+            )
+        """);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", LOCK_KEY);
+            Boolean done = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM startup_backfills WHERE name = ?)", Boolean.class, MARKER);
+            if (Boolean.TRUE.equals(done)) {
+                return;
+            }
+
+            logger.info(">>> Building profile aggregates from submission history...");
+            jdbcTemplate.execute("LOCK TABLE user_daily_activity, user_solved_problems, user_tag_solves IN SHARE ROW EXCLUSIVE MODE");
+            jdbcTemplate.update("""
+                INSERT INTO user_daily_activity (user_id, activity_date, submission_count)
+                SELECT user_id, CAST(created_at AS DATE), COUNT(*)
+                FROM submissions
+                GROUP BY user_id, CAST(created_at AS DATE)
+                ON CONFLICT (user_id, activity_date)
+                DO UPDATE SET submission_count = EXCLUDED.submission_count
+            """);
+            jdbcTemplate.update("""
+                INSERT INTO user_solved_problems (user_id, problem_id, solved_at)
+                SELECT user_id, problem_id, MIN(created_at)
+                FROM submissions
+                WHERE status = 'ACCEPTED'
+                GROUP BY user_id, problem_id
+                ON CONFLICT (user_id, problem_id)
+                DO UPDATE SET solved_at = LEAST(user_solved_problems.solved_at, EXCLUDED.solved_at)
+            """);
+            jdbcTemplate.update("""
+                INSERT INTO user_tag_solves (user_id, tag_name, solved_count)
+                SELECT sp.user_id, t.name, COUNT(DISTINCT sp.problem_id)
+                FROM user_solved_problems sp
+                JOIN problem_tags pt ON sp.problem_id = pt.problem_id
+                JOIN tags t ON pt.tag_id = t.id
+                GROUP BY sp.user_id, t.name
+                ON CONFLICT (user_id, tag_name)
+                DO UPDATE SET solved_count = EXCLUDED.solved_count
+            """);
+            jdbcTemplate.update("INSERT INTO startup_backfills (name, completed_at) VALUES (?, CURRENT_TIMESTAMP)", MARKER);
+            logger.info(">>> Profile aggregates built.");
+        });
+    }
+}
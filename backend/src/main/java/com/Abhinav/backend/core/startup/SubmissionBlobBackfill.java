@@ -0,0 +1,71 @@
+package com.Abhinav.backend.core.startup;
+
+import com.Abhinav.backend.features.submission.repository.LegacySubmissionTextReader;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Copies submission code and judge output from the old inline {@code submissions} columns into
+ * {@code submission_blobs}, in small batches. Each batch takes a transaction-scoped advisory lock,
+ * so when several replicas start together only one copies at a time and the others stop early.
+ * Rows whose copy is still pending are served through {@link LegacySubmissionTextReader}.
+ * <p>
+ * The old columns are left in place; dropping them belongs to a later release, after every replica
+ * has stopped writing them and this backfill has reported nothing left to copy.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubmissionBlobBackfill implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionBlobBackfill.class);
+
+    private static final int BATCH_SIZE = 1000;
+    private static final long LOCK_KEY = 0x5375626d426c6f62L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LegacySubmissionTextReader legacySubmissionText;
+
+
+    @Override
+    public void run(String... args) {
+        if (!legacySubmissionText.isPresent()) {
+            return;
+        }
+
+        logger.info(">>> Copying inline submission code and output into submission_blobs...");
+        int total = 0;
+        Integer copied;
+        do {
+            copied = transactionTemplate.execute(status -> copyBatch());
+            if (copied == null) {
+                logger.info(">>> Another instance is copying submission blobs. Leaving it to finish.");
+                return;
+            }
+            total += copied;
+        } while (copied == BATCH_SIZE);
+        logger.info(">>> Copied {} submissions into submission_blobs. Nothing left to copy.", total);
+    }
+
+    // Returns null when another instance holds the lock.
+    private Integer copyBatch() {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return null;
+        }
+        return jdbcTemplate.update("""
+            INSERT INTO submission_blobs (submission_id, code, stdout, stderr)
+            SELECT s.id, s.code, s.stdout, s.stderr
+            FROM submissions s
+            WHERE s.code IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM submission_blobs b WHERE b.submission_id = s.id)
+            LIMIT ?
+            ON CONFLICT (submission_id) DO NOTHING
+        """, BATCH_SIZE);
+    }
+}
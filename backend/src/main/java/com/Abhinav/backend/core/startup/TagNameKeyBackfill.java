@@ -0,0 +1,30 @@
+package com.Abhinav.backend.core.startup;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills {@code tags.name_key} for tags created before the column existed. New and renamed tags
+ * maintain it themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class TagNameKeyBackfill implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagNameKeyBackfill.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    @Override
+    public void run(String... args) {
+        int updated = jdbcTemplate.update("UPDATE tags SET name_key = LOWER(TRIM(name)) WHERE name_key IS NULL");
+        if (updated > 0) {
+            logger.info(">>> Backfilled name_key for {} tags.", updated);
+        }
+    }
+}
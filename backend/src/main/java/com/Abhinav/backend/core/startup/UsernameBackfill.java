@@ -0,0 +1,82 @@
+package com.Abhinav.backend.core.startup;
+
+import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
+import com.Abhinav.backend.features.authentication.service.UsernameService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills {@code users.username} for accounts created before the column existed, from the local part
+ * of their email. Works through 1000 users at a time with one autocommitted UPDATE per user, so it
+ * never holds row locks on the whole table while the application is serving traffic.
+ * <p>
+ * Users are visited in id order, so when several emails share a local part the oldest account keeps
+ * the bare name. The others try {@code name-<id>} and then random suffixes. Each UPDATE is guarded by
+ * the unique index, so a name taken meanwhile by a sign-up or another instance just moves on to the
+ * next candidate instead of failing startup.
+ */
+@Component
+@RequiredArgsConstructor
+public class UsernameBackfill implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameBackfill.class);
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_RANDOM_ATTEMPTS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    @Override
+    public void run(String... args) {
+        Integer pending = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username IS NULL", Integer.class);
+        if (pending == null || pending == 0) {
+            return;
+        }
+
+        logger.info(">>> Backfilling usernames for {} users...", pending);
+        int total = 0;
+        List<Map<String, Object>> batch;
+        do {
+            batch = jdbcTemplate.queryForList("SELECT id, email FROM users WHERE username IS NULL ORDER BY id LIMIT ?", BATCH_SIZE);
+            for (Map<String, Object> row : batch) {
+                if (assign(((Number) row.get("id")).longValue(), (String) row.get("email"))) {
+                    total++;
+                }
+            }
+        } while (batch.size() == BATCH_SIZE);
+        logger.info(">>> Backfilled usernames for {} users.", total);
+    }
+
+
+    private boolean assign(long userId, String email) {
+        String base = AuthenticationUser.usernameFromEmail(email);
+        if (tryAssign(userId, base) || tryAssign(userId, base + "-" + userId)) {
+            return true;
+        }
+        for (int attempt = 0; attempt < MAX_RANDOM_ATTEMPTS; attempt++) {
+            if (tryAssign(userId, UsernameService.randomSuffixed(base))) {
+                return true;
+            }
+        }
+        throw new IllegalStateException("Could not find a free username for user " + userId);
+    }
+
+    // False only when the name is taken; a user that already has a name counts as done.
+    private boolean tryAssign(long userId, String candidate) {
+        try {
+            jdbcTemplate.update("UPDATE users SET username = ? WHERE id = ? AND username IS NULL", candidate, userId);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -18,7 +18,17 @@ public class SubmissionSqsListener {
     private static final Logger logger = LoggerFactory.getLogger(SubmissionSqsListener.class);
 
 
-    @SqsListener("${aws.sqs.queue-name}")
+    @SqsListener(value = "${aws.sqs.priority-queue-name:submission-priority-queue}",
+            maxConcurrentMessages = "${submission.lanes.duel.concurrency:10}",
+            maxMessagesPerPoll = "${submission.lanes.duel.concurrency:10}")
+    public void receiveDuelMessage(String message) {
+        receiveMessage(message);
+    }
+
+
+    @SqsListener(value = "${aws.sqs.queue-name}",
+            maxConcurrentMessages = "${submission.lanes.practice.concurrency:3}",
+            maxMessagesPerPoll = "${submission.lanes.practice.concurrency:3}")
     public void receiveMessage(String message) {
         String logPrefix = "[SQS_MSG " + message + "]";
         logger.info("{} -> Received SQS message.", logPrefix);
@@ -1,5 +1,6 @@
 package com.Abhinav.backend.features.AWS.service;
 
+import com.Abhinav.backend.core.cache.SingleFlightLoader;
 import com.Abhinav.backend.features.exception.ResourceNotFoundException;
 import com.Abhinav.backend.features.judge0.service.Judge0Service;
 import com.Abhinav.backend.features.problem.dto.SampleTestCaseDTO;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -35,6 +37,7 @@ public class S3Service {
     private final S3Presigner s3Presigner;
     private final ObjectMapper objectMapper;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final SingleFlightLoader singleFlightLoader;
     private static final Logger logger = LoggerFactory.getLogger(S3Service.class);
 
     @Value("${aws.s3.bucket-name}")
@@ -43,14 +46,20 @@ public class S3Service {
     @Value("${aws.s3.test-case-cache-ttl-minutes}")
     private long testCaseCacheTtlMinutes;
 
+    // Problems without test cases are cached briefly too, so nodes waiting on another node's load see the result.
+    @Value("${aws.s3.empty-test-case-cache-ttl:30s}")
+    private Duration emptyTestCaseCacheTtl;
+
     @Value("${problem.upload.max-size-kb}")
     private long maxUploadSizeKb;
 
-    public S3Service(S3Presigner s3Presigner, S3Client s3Client, ObjectMapper objectMapper, RedisTemplate<String, Object> redisTemplate) {
+    public S3Service(S3Presigner s3Presigner, S3Client s3Client, ObjectMapper objectMapper, RedisTemplate<String, Object> redisTemplate,
+                     SingleFlightLoader singleFlightLoader) {
         this.s3Presigner = s3Presigner;
         this.s3Client = s3Client;
         this.objectMapper = objectMapper;
         this.redisTemplate = redisTemplate;
+        this.singleFlightLoader = singleFlightLoader;
     }
 
     @PostConstruct
@@ -141,20 +150,61 @@ public class S3Service {
         }
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Uploads an object whose content never changes under its key, so the CDN and browsers may
+     * cache it indefinitely.
+     */
+    public void putImmutableObject(String bucket, String objectKey, byte[] body, String contentType) {
+        try {
+            PutObjectRequest putRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .contentType(contentType)
+                    .cacheControl("public, max-age=31536000, immutable")
+                    .build();
+            s3Client.putObject(putRequest, RequestBody.fromBytes(body));
+            logger.info("Uploaded immutable S3 object '{}' to bucket '{}' ({} bytes)", objectKey, bucket, body.length);
+        } catch (S3Exception e) {
+            logger.error("Failed to upload S3 object '{}' to bucket '{}'", objectKey, bucket, e);
+            throw new RuntimeException("Failed to upload S3 object: " + objectKey, e);
+        }
+    }
+
+    public void deleteObjectFrom(String bucket, String objectKey) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(objectKey).build());
+            logger.info("Successfully deleted S3 object '{}' from bucket '{}'", objectKey, bucket);
+        } catch (S3Exception e) {
+            logger.error("Failed to delete S3 object '{}' from bucket '{}'.", objectKey, bucket, e);
+            throw new RuntimeException("Failed to delete S3 object: " + objectKey, e);
+        }
+    }
+
     public List<Judge0Service.TestCase> getOrFetchAllTestCases(Problem problem) {
         String cacheKey = "testcases:problem:" + problem.getId().toString();
         String logPrefix = "[TC_FETCH problemId=" + problem.getId() + "]";
 
-        List<Judge0Service.TestCase> allTestCases = (List<Judge0Service.TestCase>) redisTemplate.opsForValue().get(cacheKey);
+        List<Judge0Service.TestCase> cached = readCachedTestCases(cacheKey);
 
-        if (allTestCases != null) {
-            logger.info("{} CACHE HIT. Returning {} cached test cases.", logPrefix, allTestCases.size());
-            return allTestCases;
+        if (cached != null) {
+            logger.info("{} CACHE HIT. Returning {} cached test cases.", logPrefix, cached.size());
+            return cached;
         }
 
+        // Concurrent misses (typically both players of a match submitting at once) share one S3 download.
+        return singleFlightLoader.load(cacheKey,
+                () -> readCachedTestCases(cacheKey),
+                () -> fetchAndCacheTestCases(problem, cacheKey, logPrefix));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Judge0Service.TestCase> readCachedTestCases(String cacheKey) {
+        return (List<Judge0Service.TestCase>) redisTemplate.opsForValue().get(cacheKey);
+    }
+
+    private List<Judge0Service.TestCase> fetchAndCacheTestCases(Problem problem, String cacheKey, String logPrefix) {
         logger.info("{} CACHE MISS. Fetching from source.", logPrefix);
-        allTestCases = new ArrayList<>();
+        List<Judge0Service.TestCase> allTestCases = new ArrayList<>();
 
         if (problem.getSampleTestCases() != null && !problem.getSampleTestCases().isBlank()) {
             try {
@@ -179,6 +229,9 @@ public class S3Service {
         if (!allTestCases.isEmpty()) {
             redisTemplate.opsForValue().set(cacheKey, allTestCases, testCaseCacheTtlMinutes, TimeUnit.MINUTES);
             logger.info("{}   - Cached {} total test cases with a {}-minute TTL.", logPrefix, allTestCases.size(), testCaseCacheTtlMinutes);
+        } else {
+            redisTemplate.opsForValue().set(cacheKey, allTestCases, emptyTestCaseCacheTtl);
+            logger.info("{}   - Problem has no test cases. Cached the empty result for {}.", logPrefix, emptyTestCaseCacheTtl);
         }
 
         return allTestCases;
@@ -1,64 +1,119 @@
 package com.Abhinav.backend.features.AWS.service;
 
+import com.Abhinav.backend.features.submission.model.SubmissionLane;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
 import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
-import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 public class SqsService {
 
+    /** SQS rejects SendMessageBatch calls with more entries than this. */
+    public static final int MAX_BATCH_SIZE = 10;
+
     private final SqsAsyncClient sqsAsyncClient;
     private static final Logger logger = LoggerFactory.getLogger(SqsService.class);
 
     @Value("${aws.sqs.queue-name}")
     private String submissionQueueName;
 
-    public void sendSubmissionMessage(UUID submissionId) {
-        String logPrefix = "[SUBMISSION " + submissionId + "]";
-        logger.info("{} -> Attempting to send message to SQS.", logPrefix);
+    @Value("${aws.sqs.priority-queue-name:submission-priority-queue}")
+    private String priorityQueueName;
+
+    private final Map<SubmissionLane, String> queueUrls = new ConcurrentHashMap<>();
+
+    /**
+     * Sends up to {@link #MAX_BATCH_SIZE} submission ids to the lane's queue in a single
+     * SendMessageBatch call and blocks until SQS answers. Returns the ids SQS acknowledged;
+     * anything missing must be retried.
+     */
+    public Set<UUID> sendSubmissionBatch(SubmissionLane lane, List<UUID> submissionIds) {
+        if (submissionIds.isEmpty()) {
+            return Set.of();
+        }
+        if (submissionIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " messages can be sent per batch.");
+        }
 
+        List<SendMessageBatchRequestEntry> entries = submissionIds.stream()
+                .map(id -> SendMessageBatchRequestEntry.builder()
+                        .id(id.toString())
+                        .messageBody(id.toString())
+                        .build())
+                .toList();
+
+        String queueName = queueName(lane);
+        SendMessageBatchResponse response;
         try {
-            logger.debug("{} Getting queue URL for queue name: '{}'", logPrefix, submissionQueueName);
-            String queueUrl = sqsAsyncClient.getQueueUrl(GetQueueUrlRequest.builder()
-                    .queueName(submissionQueueName)
-                    .build()).get().queueUrl();
-            logger.debug("{} Successfully retrieved queue URL: {}", logPrefix, queueUrl);
-
-            SendMessageRequest sendMessageRequest = SendMessageRequest.builder()
-                    .queueUrl(queueUrl)
-                    .messageBody(submissionId.toString())
-                    .build();
-
-            logger.debug("{} Dispatching message to SQS...", logPrefix);
-            sqsAsyncClient.sendMessage(sendMessageRequest)
-                    .whenComplete((response, throwable) -> {
-                        if (throwable != null) {
-                            logger.error("{} Asynchronous send to SQS queue '{}' failed.",
-                                    logPrefix, submissionQueueName, throwable);
-                        } else {
-                            logger.info("{} Successfully sent message to SQS. SQS Message ID: {}",
-                                    logPrefix, response.messageId());
-                        }
-                    });
-
-            logger.info("{} <- Message dispatch initiated. Method is returning while send completes in background.", logPrefix);
-
-        } catch (InterruptedException | ExecutionException e) {
-            logger.error("{} Failed to get SQS queue URL for queue name '{}'. Cannot send message.",
-                    logPrefix, submissionQueueName, e);
-
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
-            }
-            throw new RuntimeException("Error preparing to send message to SQS for submission " + submissionId, e);
+            response = sqsAsyncClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                    .queueUrl(resolveQueueUrl(lane))
+                    .entries(entries)
+                    .build()).join();
+        } catch (RuntimeException e) {
+            queueUrls.remove(lane);
+            logger.error("[SQS_BATCH] SendMessageBatch to '{}' failed for {} submissions.", queueName, submissionIds.size(), e);
+            return Set.of();
+        }
+
+        Set<UUID> acknowledged = new HashSet<>();
+        for (SendMessageBatchResultEntry ok : response.successful()) {
+            acknowledged.add(UUID.fromString(ok.id()));
+        }
+        for (BatchResultErrorEntry failed : response.failed()) {
+            logger.warn("[SQS_BATCH] SQS rejected submission {}: {} ({})", failed.id(), failed.message(), failed.code());
         }
+
+        logger.info("[SQS_BATCH] Dispatched {}/{} submissions to '{}'.", acknowledged.size(), submissionIds.size(), queueName);
+        return acknowledged;
+    }
+
+    /**
+     * Returns SQS's approximate count of messages waiting to be received from the lane's queue. The
+     * figure lags by up to a minute, so callers should cache it rather than ask per request.
+     */
+    public long approximateDepth(SubmissionLane lane) {
+        try {
+            String depth = sqsAsyncClient.getQueueAttributes(GetQueueAttributesRequest.builder()
+                    .queueUrl(resolveQueueUrl(lane))
+                    .attributeNames(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES)
+                    .build()).join().attributes().get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES);
+            return Long.parseLong(depth);
+        } catch (RuntimeException e) {
+            queueUrls.remove(lane);
+            throw e;
+        }
+    }
+
+    private String resolveQueueUrl(SubmissionLane lane) {
+        return queueUrls.computeIfAbsent(lane, key -> {
+            String queueUrl = sqsAsyncClient.getQueueUrl(GetQueueUrlRequest.builder()
+                    .queueName(queueName(key))
+                    .build()).join().queueUrl();
+            logger.info("Resolved SQS queue URL for '{}': {}", queueName(key), queueUrl);
+            return queueUrl;
+        });
+    }
+
+    private String queueName(SubmissionLane lane) {
+        return lane == SubmissionLane.DUEL ? priorityQueueName : submissionQueueName;
     }
 }
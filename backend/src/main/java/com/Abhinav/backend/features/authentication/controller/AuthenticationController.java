@@ -3,6 +3,7 @@ package com.Abhinav.backend.features.authentication.controller;
 import com.Abhinav.backend.features.authentication.dto.*;
 import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
 import com.Abhinav.backend.features.authentication.service.AuthenticationService;
+import com.Abhinav.backend.features.authentication.utils.ClientAddressResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpHeaders;
@@ -14,19 +15,21 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/authentication")
 public class AuthenticationController {
     private final AuthenticationService authenticationService;
+    private final ClientAddressResolver clientAddressResolver;
 
-    public AuthenticationController(AuthenticationService authenticationService) {
+    public AuthenticationController(AuthenticationService authenticationService, ClientAddressResolver clientAddressResolver) {
         this.authenticationService = authenticationService;
+        this.clientAddressResolver = clientAddressResolver;
     }
 
     @PostMapping("/register")
-    public ResponseEntity<AuthenticationResponseBody> register(@Valid @RequestBody RegisterRequest request) {
-        return ResponseEntity.ok(authenticationService.register(request));
+    public ResponseEntity<AuthenticationResponseBody> register(@Valid @RequestBody RegisterRequest request, HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(authenticationService.register(request, clientAddressResolver.resolve(httpRequest)));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthenticationResponseBody> login(@Valid @RequestBody LoginRequest request) {
-        return ResponseEntity.ok(authenticationService.login(request));
+    public ResponseEntity<AuthenticationResponseBody> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        return ResponseEntity.ok(authenticationService.login(request, clientAddressResolver.resolve(httpRequest)));
     }
 
     @GetMapping("/me")
@@ -67,8 +70,8 @@ public class AuthenticationController {
     }
 
     @PostMapping("/verify-2fa")
-    public AuthenticationResponseBody verifyTwoFactor(@Valid @RequestBody TwoFactorRequest request) {
-        return authenticationService.verifyTwoFactor(request);
+    public AuthenticationResponseBody verifyTwoFactor(@Valid @RequestBody TwoFactorRequest request, HttpServletRequest httpRequest) {
+        return authenticationService.verifyTwoFactor(request, clientAddressResolver.resolve(httpRequest));
     }
 
     @PostMapping("/refresh-access-token")
@@ -11,10 +11,4 @@ import lombok.NoArgsConstructor;
 public class SolvesByTagDto {
     private String tagName;
     private long solvedCount;
-
-
-    public interface SolvesByTagProjection {
-        String getTagName();
-        Long getSolvedCount();
-    }
 }
@@ -34,6 +34,13 @@ public class AuthenticationUser implements UserDetails {
     @Column(unique = true)
     private String email;
 
+    /**
+     * Public username shown on profiles and in matches. Kept apart from {@link #getUsername()},
+     * which stays the email because Spring Security and the JWT subject are keyed on it.
+     */
+    @Column(name = "username", unique = true)
+    private String handle;
+
     private Boolean emailVerified = false;
     private String emailVerificationToken;
     private LocalDateTime emailVerificationTokenExpiryDate;
@@ -99,4 +106,20 @@ public class AuthenticationUser implements UserDetails {
 
 
     public Long getId() {return id;}
+
+
+    /**
+     * The stored username, or the one derived from the email for rows the backfill has not reached yet.
+     */
+    public String resolveUsername() {
+        return handle != null ? handle : usernameFromEmail(email);
+    }
+
+
+    public static String usernameFromEmail(String email) {
+        if (email == null || !email.contains("@")) {
+            return "anonymous";
+        }
+        return email.substring(0, email.indexOf("@"));
+    }
 }
@@ -0,0 +1,44 @@
+package com.Abhinav.backend.features.authentication.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A problem the user has had at least one submission accepted for.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "user_solved_problems")
+@IdClass(UserSolvedProblem.Key.class)
+public class UserSolvedProblem {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "problem_id")
+    private UUID problemId;
+
+    @Column(name = "solved_at", nullable = false)
+    private Instant solvedAt;
+
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private UUID problemId;
+    }
+}
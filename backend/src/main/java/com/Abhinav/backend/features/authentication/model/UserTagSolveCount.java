@@ -0,0 +1,42 @@
+package com.Abhinav.backend.features.authentication.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * How many distinct problems carrying a tag the user has solved.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "user_tag_solves")
+@IdClass(UserTagSolveCount.Key.class)
+public class UserTagSolveCount {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "tag_name")
+    private String tagName;
+
+    @Column(name = "solved_count", nullable = false)
+    private long solvedCount;
+
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private String tagName;
+    }
+}
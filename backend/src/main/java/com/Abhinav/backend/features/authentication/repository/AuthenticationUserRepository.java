@@ -1,6 +1,8 @@
 package com.Abhinav.backend.features.authentication.repository;
 
 import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,8 +15,26 @@ import java.util.Optional;
 public interface AuthenticationUserRepository extends JpaRepository<AuthenticationUser, Long> {
     Optional<AuthenticationUser> findByEmail(String email);
 
-    @Query("SELECT u FROM users u WHERE u.email LIKE :username || '@%'")
-    Optional<AuthenticationUser> findByUsername(@Param("username") String username);
+    Optional<AuthenticationUser> findByHandle(String handle);
+
+    /**
+     * Finds a user by public username. Users that {@code UsernameBackfill} has not reached yet
+     * have no stored name and are shown under their email's local part, so those are matched too.
+     * When several share it, the lowest id wins, which is the user the backfill gives the bare name.
+     */
+    default Optional<AuthenticationUser> findByUsername(String username) {
+        return findByHandle(username)
+                .or(() -> findUnmigratedByEmailLocalPart(username, PageRequest.of(0, 1)).stream().findFirst());
+    }
+
+    @Query("""
+        SELECT u FROM users u
+        WHERE u.handle IS NULL AND SUBSTRING(u.email, 1, LENGTH(:localPart) + 1) = CONCAT(:localPart, '@')
+        ORDER BY u.id ASC
+    """)
+    List<AuthenticationUser> findUnmigratedByEmailLocalPart(@Param("localPart") String localPart, Pageable pageable);
+
+    boolean existsByHandle(String handle);
 
 
     List<AuthenticationUser> findByIdIn(List<Long> userIds);
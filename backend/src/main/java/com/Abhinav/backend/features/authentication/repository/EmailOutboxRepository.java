@@ -0,0 +1,44 @@
+package com.Abhinav.backend.features.authentication.repository;
+
+import com.Abhinav.backend.features.authentication.model.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    /**
+     * Locks the oldest due rows until the claiming transaction ends. SKIP LOCKED lets several
+     * backend replicas claim side by side; the claimer then leases the rows with {@link #lease}
+     * so they stay hidden once the lock is gone.
+     */
+    @Query(value = """
+        SELECT *
+        FROM email_outbox
+        WHERE next_attempt_at <= :now
+        ORDER BY created_at ASC
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<EmailOutbox> claimDue(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Hides claimed rows from {@link #claimDue} until {@code until}, so they can be sent without
+     * holding a lock. A relay that dies mid-send leaves them to be picked up once the lease runs out.
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.nextAttemptAt = :until WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<UUID> ids, @Param("until") Instant until);
+
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt WHERE o.id = :id")
+    int reschedule(@Param("id") UUID id, @Param("attempts") int attempts, @Param("nextAttemptAt") Instant nextAttemptAt);
+}
@@ -0,0 +1,27 @@
+package com.Abhinav.backend.features.authentication.repository;
+
+import com.Abhinav.backend.features.authentication.model.UserDailyActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface UserDailyActivityRepository extends JpaRepository<UserDailyActivity, UserDailyActivity.Key> {
+
+    List<UserDailyActivity> findByUserIdAndActivityDateGreaterThanEqualOrderByActivityDateAsc(Long userId, LocalDate from);
+
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_daily_activity (user_id, activity_date, submission_count)
+        VALUES (:userId, CURRENT_DATE, 1)
+        ON CONFLICT (user_id, activity_date)
+        DO UPDATE SET submission_count = user_daily_activity.submission_count + 1
+    """, nativeQuery = true)
+    void incrementToday(@Param("userId") Long userId);
+}
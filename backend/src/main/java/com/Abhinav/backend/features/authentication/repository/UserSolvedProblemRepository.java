@@ -0,0 +1,28 @@
+package com.Abhinav.backend.features.authentication.repository;
+
+import com.Abhinav.backend.features.authentication.model.UserSolvedProblem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface UserSolvedProblemRepository extends JpaRepository<UserSolvedProblem, UserSolvedProblem.Key> {
+
+    long countByUserId(Long userId);
+
+
+    /**
+     * Records the problem as solved. Returns 1 the first time, 0 if the user had already solved it.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_solved_problems (user_id, problem_id, solved_at)
+        VALUES (:userId, :problemId, CURRENT_TIMESTAMP)
+        ON CONFLICT (user_id, problem_id) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("problemId") UUID problemId);
+}
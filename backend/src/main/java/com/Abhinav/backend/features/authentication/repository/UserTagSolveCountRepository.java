@@ -0,0 +1,58 @@
+package com.Abhinav.backend.features.authentication.repository;
+
+import com.Abhinav.backend.features.authentication.model.UserTagSolveCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserTagSolveCountRepository extends JpaRepository<UserTagSolveCount, UserTagSolveCount.Key> {
+
+    List<UserTagSolveCount> findByUserIdOrderBySolvedCountDescTagNameAsc(Long userId);
+
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_tag_solves (user_id, tag_name, solved_count)
+        SELECT :userId, t.name, 1
+        FROM tags t
+        JOIN problem_tags pt ON t.id = pt.tag_id
+        WHERE pt.problem_id = :problemId
+        ON CONFLICT (user_id, tag_name)
+        DO UPDATE SET solved_count = user_tag_solves.solved_count + 1
+    """, nativeQuery = true)
+    void incrementForProblem(@Param("userId") Long userId, @Param("problemId") UUID problemId);
+
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM user_tag_solves
+        WHERE tag_name IN (:tagNames)
+          AND user_id IN (SELECT user_id FROM user_solved_problems WHERE problem_id = :problemId)
+    """, nativeQuery = true)
+    void deleteForSolversOf(@Param("problemId") UUID problemId, @Param("tagNames") Collection<String> tagNames);
+
+    /**
+     * Recounts the given tags from {@code user_solved_problems} for everyone who solved the problem.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_tag_solves (user_id, tag_name, solved_count)
+        SELECT sp.user_id, t.name, COUNT(*)
+        FROM user_solved_problems sp
+        JOIN problem_tags pt ON sp.problem_id = pt.problem_id
+        JOIN tags t ON pt.tag_id = t.id
+        WHERE t.name IN (:tagNames)
+          AND sp.user_id IN (SELECT user_id FROM user_solved_problems WHERE problem_id = :problemId)
+        GROUP BY sp.user_id, t.name
+        ON CONFLICT (user_id, tag_name)
+        DO UPDATE SET solved_count = EXCLUDED.solved_count
+    """, nativeQuery = true)
+    void recountForSolversOf(@Param("problemId") UUID problemId, @Param("tagNames") Collection<String> tagNames);
+}
@@ -7,16 +7,14 @@ import com.Abhinav.backend.features.authentication.model.RoleType;
 import com.Abhinav.backend.features.authentication.repository.AuthenticationUserRepository;
 import com.Abhinav.backend.features.authentication.repository.RoleRepository;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
-import org.springframework.beans.factory.annotation.Value;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
-import java.util.Collections;
 import com.Abhinav.backend.features.authentication.utils.EmailService;
+import com.Abhinav.backend.features.authentication.utils.EmailTemplate;
+import com.Abhinav.backend.features.authentication.utils.GoogleTokenVerifier;
 import com.Abhinav.backend.features.authentication.utils.JwtService;
+import com.Abhinav.backend.features.authentication.utils.LoginThrottle;
 import com.Abhinav.backend.features.authentication.utils.PasswordValidator;
 import com.Abhinav.backend.features.exception.InvalidRequestException;
 import lombok.RequiredArgsConstructor;
@@ -48,17 +46,15 @@ public class AuthenticationService {
     private final EmailService emailService;
     private final AuthenticationManager authenticationManager;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final GoogleTokenVerifier googleTokenVerifier;
+    private final UsernameService usernameService;
+    private final LoginThrottle loginThrottle;
 
 
 
 
-    @Value("${google.client.id}")
-    private String googleClientId;
-
-
-
-
-    public AuthenticationResponseBody register(RegisterRequest request) {
+    public AuthenticationResponseBody register(RegisterRequest request, String clientIp) {
+        loginThrottle.admit(clientIp, request.email());
         if (authenticationUserRepository.findByEmail(request.email()).isPresent()) {
             throw new IllegalArgumentException("Email already exists.");
         }
@@ -71,12 +67,13 @@ public class AuthenticationService {
         Role userRole = roleRepository.findByName(RoleType.ROLE_USER)
                 .orElseThrow(() -> new IllegalStateException("ROLE_USER not found in database."));
         user.setRoles(new HashSet<>(Set.of(userRole)));
-        AuthenticationUser savedUser = authenticationUserRepository.save(user);
+        AuthenticationUser savedUser = usernameService.saveWithUniqueUsername(user);
         sendEmailVerificationToken(savedUser.getEmail());
         return new AuthenticationResponseBody(null, null, "User registered successfully. Please check your email to verify your account.");
     }
 
-    public AuthenticationResponseBody login(LoginRequest request) {
+    public AuthenticationResponseBody login(LoginRequest request, String clientIp) {
+        loginThrottle.admit(clientIp, request.email());
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.email(), request.password())
         );
@@ -113,14 +110,8 @@ public class AuthenticationService {
         user.setEmailVerificationToken(passwordEncoder.encode(emailVerificationToken));
         user.setEmailVerificationTokenExpiryDate(LocalDateTime.now().plusMinutes(DURATION_IN_MINUTES));
         authenticationUserRepository.save(user);
-        try {
-            String subject = "Email Verification";
-            String body = "Your verification code is: " + emailVerificationToken;
-            emailService.sendEmail(email, subject, body);
-            logger.info("Successfully sent email verification token to {}", email);
-        } catch (Exception e) {
-            logger.error("Failed to send email verification token to {}: {}", email, e.getMessage());
-        }
+        emailService.queueEmail(email, EmailTemplate.EMAIL_VERIFICATION, emailVerificationToken);
+        logger.info("Queued email verification token for {}", email);
     }
 
     public AuthenticationUser validateEmailVerificationToken(String token, String email) {
@@ -145,19 +136,14 @@ public class AuthenticationService {
         user.setPasswordResetToken(passwordEncoder.encode(passwordResetToken));
         user.setPasswordResetTokenExpiryDate(LocalDateTime.now().plusMinutes(DURATION_IN_MINUTES));
         authenticationUserRepository.save(user);
-        try {
-            String subject = "Password Reset";
-            String body = "Your password reset code is: " + passwordResetToken;
-            emailService.sendEmail(email, subject, body);
-            logger.info("Successfully sent password reset token to {}", email);
-        } catch (Exception e) {
-            logger.error("Failed to send password reset token to {}: {}", email, e.getMessage());
-        }
+        emailService.queueEmail(email, EmailTemplate.PASSWORD_RESET, passwordResetToken);
+        logger.info("Queued password reset token for {}", email);
     }
 
 
 
-    public AuthenticationResponseBody verifyTwoFactor(TwoFactorRequest request) {
+    public AuthenticationResponseBody verifyTwoFactor(TwoFactorRequest request, String clientIp) {
+        loginThrottle.admit(clientIp, request.getEmail());
         AuthenticationUser user = getUser(request.getEmail());
         if (!Boolean.TRUE.equals(user.isTwoFactorTokenRequested())) {
             throw new IllegalArgumentException("You must login first before verifying 2FA.");
@@ -226,11 +212,7 @@ public class AuthenticationService {
 
     public AuthenticationResponseBody loginWithGoogle(String googleToken) {
         try {
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), new GsonFactory())
-                    .setAudience(Collections.singletonList(googleClientId))
-                    .build();
-
-            GoogleIdToken idToken = verifier.verify(googleToken);
+            GoogleIdToken idToken = googleTokenVerifier.verify(googleToken);
             if (idToken == null) {
                 throw new IllegalArgumentException("Invalid Google token.");
             }
@@ -263,7 +245,7 @@ public class AuthenticationService {
                 .orElseThrow(() -> new IllegalStateException("ROLE_USER not found in database."));
         user.setRoles(new HashSet<>(Set.of(userRole)));
 
-        return authenticationUserRepository.save(user);
+        return usernameService.saveWithUniqueUsername(user);
     }
 
     private String generateAndSaveTwoFactorCode(AuthenticationUser user) {
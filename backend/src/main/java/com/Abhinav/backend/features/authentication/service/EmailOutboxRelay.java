@@ -0,0 +1,225 @@
+package com.Abhinav.backend.features.authentication.service;
+
+import com.Abhinav.backend.features.authentication.model.EmailOutbox;
+import com.Abhinav.backend.features.authentication.repository.EmailOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the email outbox. Rows are claimed and leased in one short transaction, sent with no
+ * transaction or lock held, and settled in a second one, so slow SMTP never pins a database
+ * connection. Claimed rows are split across a small pool of senders; each sender hands its share
+ * to {@link JavaMailSender#send(MimeMessage...)} in one call, which delivers them over a single
+ * SMTP connection. Rows the server rejected are retried with exponential backoff and dropped after
+ * {@code email.outbox.max-attempts}, since the codes they carry expire anyway.
+ */
+@Component
+public class EmailOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxRelay.class);
+
+    private static final int CLAIM_SIZE = 200;
+    private static final String FROM_ADDRESS = "coding-platform-uyo1";
+    private static final String FROM_NAME = "codeDuel";
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(2);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(2);
+
+    private final JavaMailSender mailSender;
+    private final EmailOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService senders;
+    private final int senderCount;
+    private final int maxAttempts;
+    private final Duration lease;
+
+    private final AtomicBoolean wakeUp = new AtomicBoolean(true);
+    private volatile long nextSweepAtMillis = 0;
+
+    @Value("${email.outbox.sweep-interval-ms:5000}")
+    private long sweepIntervalMs;
+
+    public EmailOutboxRelay(JavaMailSender mailSender,
+                            EmailOutboxRepository outboxRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${email.outbox.senders:4}") int senderCount,
+                            @Value("${email.outbox.max-attempts:8}") int maxAttempts,
+                            @Value("${email.outbox.lease:2m}") Duration lease) {
+        this.mailSender = mailSender;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.senderCount = senderCount;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderCount, runnable -> {
+            Thread thread = new Thread(runnable, "email-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    public void wakeUp() {
+        wakeUp.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:200}")
+    public void relay() {
+        long now = System.currentTimeMillis();
+        if (!wakeUp.getAndSet(false) && now < nextSweepAtMillis) {
+            return;
+        }
+        nextSweepAtMillis = now + sweepIntervalMs;
+
+        try {
+            int claimed;
+            do {
+                claimed = relayBatch();
+            } while (claimed == CLAIM_SIZE);
+        } catch (Exception e) {
+            logger.error("[EMAIL_OUTBOX] Relay pass failed. Pending emails will be retried on the next sweep.", e);
+        }
+    }
+
+    int relayBatch() {
+        List<EmailOutbox> due = transactionTemplate.execute(status -> claim());
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+
+        int chunkSize = (due.size() + senderCount - 1) / senderCount;
+        List<Future<Set<EmailOutbox>>> pending = new ArrayList<>();
+        for (int from = 0; from < due.size(); from += chunkSize) {
+            List<EmailOutbox> chunk = due.subList(from, Math.min(from + chunkSize, due.size()));
+            pending.add(senders.submit(() -> send(chunk)));
+        }
+
+        Set<EmailOutbox> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                failed.addAll(pending.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.addAll(due.subList(i * chunkSize, Math.min((i + 1) * chunkSize, due.size())));
+            } catch (ExecutionException e) {
+                logger.error("[EMAIL_OUTBOX] Sender failed unexpectedly.", e.getCause());
+                failed.addAll(due.subList(i * chunkSize, Math.min((i + 1) * chunkSize, due.size())));
+            }
+        }
+
+        Instant now = Instant.now();
+        List<EmailOutbox> done = new ArrayList<>();
+        List<EmailOutbox> rescheduled = new ArrayList<>();
+        for (EmailOutbox row : due) {
+            if (!failed.contains(row)) {
+                done.add(row);
+            } else if (row.getAttempts() + 1 >= maxAttempts) {
+                logger.error("[EMAIL_OUTBOX] Giving up on '{}' to {} after {} attempts.", row.getSubject(), row.getRecipient(), row.getAttempts() + 1);
+                done.add(row);
+            } else {
+                row.setAttempts(row.getAttempts() + 1);
+                row.setNextAttemptAt(now.plus(backoff(row.getAttempts())));
+                rescheduled.add(row);
+            }
+        }
+        // A failure here leaves the rows leased; they are sent again once the lease runs out.
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.deleteAllInBatch(done);
+            rescheduled.forEach(row -> outboxRepository.reschedule(row.getId(), row.getAttempts(), row.getNextAttemptAt()));
+        });
+
+        logger.info("[EMAIL_OUTBOX] Claimed {} emails: {} sent, {} rescheduled.", due.size(), due.size() - failed.size(), rescheduled.size());
+        return due.size();
+    }
+
+    private List<EmailOutbox> claim() {
+        Instant now = Instant.now();
+        List<EmailOutbox> due = outboxRepository.claimDue(now, CLAIM_SIZE);
+        if (!due.isEmpty()) {
+            outboxRepository.lease(due.stream().map(EmailOutbox::getId).toList(), now.plus(lease));
+        }
+        return due;
+    }
+
+    /**
+     * Sends the chunk over one connection and returns the rows that were not accepted.
+     */
+    private Set<EmailOutbox> send(List<EmailOutbox> chunk) {
+        Map<MimeMessage, EmailOutbox> rowsByMessage = new IdentityHashMap<>();
+        Set<EmailOutbox> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (EmailOutbox row : chunk) {
+            try {
+                rowsByMessage.put(toMessage(row), row);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                logger.error("[EMAIL_OUTBOX] Could not build email {} to {}.", row.getId(), row.getRecipient(), e);
+                failed.add(row);
+            }
+        }
+        if (rowsByMessage.isEmpty()) {
+            return failed;
+        }
+
+        try {
+            mailSender.send(rowsByMessage.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            // Partial failure: the exception lists exactly which messages were not sent.
+            e.getFailedMessages().keySet().forEach(message -> {
+                EmailOutbox row = rowsByMessage.get(message);
+                if (row != null) {
+                    failed.add(row);
+                }
+            });
+            if (e.getFailedMessages().isEmpty()) {
+                failed.addAll(rowsByMessage.values());
+            }
+            logger.warn("[EMAIL_OUTBOX] {} of {} emails were rejected: {}", e.getFailedMessages().size(), rowsByMessage.size(), e.getMessage());
+        } catch (MailException e) {
+            logger.warn("[EMAIL_OUTBOX] Could not send {} emails: {}", rowsByMessage.size(), e.getMessage());
+            failed.addAll(rowsByMessage.values());
+        }
+        return failed;
+    }
+
+    private MimeMessage toMessage(EmailOutbox row) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message);
+        helper.setFrom(FROM_ADDRESS, FROM_NAME);
+        helper.setTo(row.getRecipient());
+        helper.setSubject(row.getSubject());
+        helper.setText(row.getBody(), true);
+        return message;
+    }
+
+    private Duration backoff(int attempts) {
+        long millis = BASE_BACKOFF.toMillis() << Math.min(attempts - 1, 16);
+        return Duration.ofMillis(Math.min(millis, MAX_BACKOFF.toMillis()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+    }
+}
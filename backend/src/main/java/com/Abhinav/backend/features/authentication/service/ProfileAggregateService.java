@@ -0,0 +1,71 @@
+package com.Abhinav.backend.features.authentication.service;
+
+import com.Abhinav.backend.features.authentication.repository.UserDailyActivityRepository;
+import com.Abhinav.backend.features.authentication.repository.UserSolvedProblemRepository;
+import com.Abhinav.backend.features.authentication.repository.UserTagSolveCountRepository;
+import com.Abhinav.backend.features.submission.model.SubmissionStatus;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Keeps the per-user profile aggregates (daily activity, solved problems, solves per tag) up to
+ * date as submissions come in. Evicting the cached profile is left to the cache invalidation
+ * listener, driven by the submission events.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProfileAggregateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileAggregateService.class);
+
+    private final UserDailyActivityRepository dailyActivityRepository;
+    private final UserSolvedProblemRepository solvedProblemRepository;
+    private final UserTagSolveCountRepository tagSolveCountRepository;
+
+
+    @Transactional
+    public void recordSubmission(Long userId) {
+        dailyActivityRepository.incrementToday(userId);
+    }
+
+
+    /**
+     * Only the first accepted verdict for a problem changes anything. Returns {@code true} when
+     * this verdict was that first solve.
+     */
+    @Transactional
+    public boolean recordVerdict(Long userId, UUID problemId, SubmissionStatus status) {
+        if (status != SubmissionStatus.ACCEPTED) {
+            return false;
+        }
+        if (solvedProblemRepository.insertIfAbsent(userId, problemId) == 0) {
+            return false;
+        }
+        tagSolveCountRepository.incrementForProblem(userId, problemId);
+        logger.info("[PROFILE_AGGREGATE] User {} solved problem {} for the first time.", userId, problemId);
+        return true;
+    }
+
+
+    /**
+     * Brings solves-per-tag back in line after a problem's tags were edited. Tag counts are bumped
+     * from the tags a problem has at the moment of the first solve, so every user who solved it
+     * gets the old and new tags recounted from their solved problems. Cached profiles catch up when
+     * their entry expires.
+     */
+    @Transactional
+    public void recountTags(UUID problemId, Collection<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return;
+        }
+        tagSolveCountRepository.deleteForSolversOf(problemId, tagNames);
+        tagSolveCountRepository.recountForSolversOf(problemId, tagNames);
+        logger.info("[PROFILE_AGGREGATE] Recounted tags {} for solvers of problem {}.", tagNames, problemId);
+    }
+}
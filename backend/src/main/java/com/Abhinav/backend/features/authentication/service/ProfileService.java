@@ -7,14 +7,16 @@ import com.Abhinav.backend.features.authentication.dto.SolvesByTagDto;
 import com.Abhinav.backend.features.authentication.dto.UserProfileDto;
 import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
 import com.Abhinav.backend.features.authentication.repository.AuthenticationUserRepository;
+import com.Abhinav.backend.features.authentication.repository.UserDailyActivityRepository;
+import com.Abhinav.backend.features.authentication.repository.UserSolvedProblemRepository;
+import com.Abhinav.backend.features.authentication.repository.UserTagSolveCountRepository;
 import com.Abhinav.backend.features.exception.ResourceNotFoundException;
 import com.Abhinav.backend.features.match.repository.UserStatsRepository;
-import com.Abhinav.backend.features.submission.repository.SubmissionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Date;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;import org.springframework.cache.annotation.Cacheable;
 
@@ -25,7 +27,9 @@ public class ProfileService {
 
     private final AuthenticationUserRepository userRepository;
     private final UserStatsRepository userStatsRepository;
-    private final SubmissionRepository submissionRepository;
+    private final UserDailyActivityRepository dailyActivityRepository;
+    private final UserSolvedProblemRepository solvedProblemRepository;
+    private final UserTagSolveCountRepository tagSolveCountRepository;
 
 
     @Cacheable(value = "userProfiles", key = "#username", unless = "#result == null")
@@ -48,20 +52,17 @@ public class ProfileService {
                 })
                 .orElse(new DuelStatsDto(0, 0, 0, 0, 0.0));
 
-        long totalSolved = submissionRepository.countDistinctProblemsSolvedByUser(userId);
+        long totalSolved = solvedProblemRepository.countByUserId(userId);
 
-        List<SolvesByTagDto> solvesByTag = submissionRepository.countSolvedProblemsByTagForUser(userId)
+        List<SolvesByTagDto> solvesByTag = tagSolveCountRepository.findByUserIdOrderBySolvedCountDescTagNameAsc(userId)
                 .stream()
-                .map(projection -> new SolvesByTagDto(projection.getTagName(), projection.getSolvedCount()))
+                .map(row -> new SolvesByTagDto(row.getTagName(), row.getSolvedCount()))
                 .collect(Collectors.toList());
 
-        List<ActivityHeatmapDto> heatmapData = submissionRepository.findUserActivityForHeatmap(userId)
+        List<ActivityHeatmapDto> heatmapData = dailyActivityRepository
+                .findByUserIdAndActivityDateGreaterThanEqualOrderByActivityDateAsc(userId, LocalDate.now().minusYears(1))
                 .stream()
-                .map(row -> {
-                    Date date = (Date) row.get("date");
-                    Number count = (Number) row.get("count");
-                    return new ActivityHeatmapDto(date.toLocalDate(), count.intValue());
-                })
+                .map(row -> new ActivityHeatmapDto(row.getActivityDate(), row.getSubmissionCount()))
                 .collect(Collectors.toList());
 
         return new UserProfileDto(username, duelStats, totalSolved, solvesByTag, heatmapData);
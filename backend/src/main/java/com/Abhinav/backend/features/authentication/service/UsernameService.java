@@ -0,0 +1,75 @@
+package com.Abhinav.backend.features.authentication.service;
+
+import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
+import com.Abhinav.backend.features.authentication.repository.AuthenticationUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Resolves a user's display name by id, cached per user, and hands out unique usernames to new accounts.
+ */
+@Service
+@RequiredArgsConstructor
+public class UsernameService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameService.class);
+
+    private static final int MAX_SAVE_ATTEMPTS = 5;
+
+    private final AuthenticationUserRepository userRepository;
+
+
+    @Cacheable(value = "usernames", key = "#userId", unless = "#result == null")
+    public String getUsername(Long userId) {
+        return userRepository.findById(userId)
+                .map(AuthenticationUser::resolveUsername)
+                .orElse(null);
+    }
+
+
+    /**
+     * Starts from the local part of the email and appends a short random suffix while it is taken,
+     * e.g. a second "alice" becomes "alice-4821".
+     */
+    public String allocateUsername(String email) {
+        String base = AuthenticationUser.usernameFromEmail(email);
+        String candidate = base;
+        while (userRepository.existsByHandle(candidate)) {
+            candidate = randomSuffixed(base);
+        }
+        return candidate;
+    }
+
+
+    /**
+     * Saves a new user under a freshly allocated username. The check in {@link #allocateUsername}
+     * can race with a concurrent sign-up or the backfill, so a unique-index violation on the
+     * username is retried with a new one; any other violation, such as a duplicate email, is rethrown.
+     */
+    public AuthenticationUser saveWithUniqueUsername(AuthenticationUser user) {
+        for (int attempt = 1; ; attempt++) {
+            user.setHandle(attempt == 1
+                    ? allocateUsername(user.getEmail())
+                    : randomSuffixed(AuthenticationUser.usernameFromEmail(user.getEmail())));
+            try {
+                return userRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_SAVE_ATTEMPTS || !userRepository.existsByHandle(user.getHandle())) {
+                    throw e;
+                }
+                logger.info("Username '{}' was taken concurrently. Retrying with another.", user.getHandle());
+            }
+        }
+    }
+
+
+    public static String randomSuffixed(String base) {
+        return base + "-" + ThreadLocalRandom.current().nextInt(1000, 10000);
+    }
+}
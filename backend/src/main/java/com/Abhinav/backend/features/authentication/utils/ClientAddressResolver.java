@@ -0,0 +1,53 @@
+package com.Abhinav.backend.features.authentication.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Works out the address of the client behind a request, for per-IP login throttling.
+ * <p>
+ * API traffic arrives through CloudFront, so {@link HttpServletRequest#getRemoteAddr()} is the
+ * CloudFront edge and would put every user of one edge location in the same bucket. CloudFront
+ * reports the viewer in {@code CloudFront-Viewer-Address}, but the ALB is also reachable directly,
+ * so that header is only trusted when the request carries the origin secret CloudFront adds as
+ * {@code X-Origin-Verify}. Anything else falls back to the remote address.
+ */
+@Component
+public class ClientAddressResolver {
+
+    static final String VIEWER_ADDRESS_HEADER = "CloudFront-Viewer-Address";
+    static final String ORIGIN_VERIFY_HEADER = "X-Origin-Verify";
+
+    private final byte[] originSecret;
+
+    public ClientAddressResolver(@Value("${auth.client-address.origin-secret:}") String originSecret) {
+        this.originSecret = originSecret.getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    public String resolve(HttpServletRequest request) {
+        String viewerAddress = request.getHeader(VIEWER_ADDRESS_HEADER);
+        if (viewerAddress != null && !viewerAddress.isBlank() && fromCloudFront(request)) {
+            return stripPort(viewerAddress.trim());
+        }
+        return request.getRemoteAddr();
+    }
+
+
+    private boolean fromCloudFront(HttpServletRequest request) {
+        String presented = request.getHeader(ORIGIN_VERIFY_HEADER);
+        return originSecret.length > 0
+                && presented != null
+                && MessageDigest.isEqual(originSecret, presented.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // The header is "ip:port" for both families, e.g. "192.0.2.1:46532" or "2001:db8::1:46532".
+    private static String stripPort(String address) {
+        int separator = address.lastIndexOf(':');
+        return separator > 0 ? address.substring(0, separator) : address;
+    }
+}
@@ -1,44 +1,43 @@
 package com.Abhinav.backend.features.authentication.utils;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import com.Abhinav.backend.features.authentication.model.EmailOutbox;
+import com.Abhinav.backend.features.authentication.repository.EmailOutboxRepository;
+import com.Abhinav.backend.features.authentication.service.EmailOutboxRelay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.io.UnsupportedEncodingException;
+import java.time.Instant;
 
+/**
+ * Queues transactional emails in the email outbox instead of talking to SMTP on the request
+ * thread. {@link EmailOutboxRelay} sends them in the background and retries failures.
+ */
 @Service
 public class EmailService {
-    private final JavaMailSender mailSender;
+    private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
 
-    public EmailService(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
-    }
-
-    public void sendEmail(String email, String subject, String content) throws MessagingException, UnsupportedEncodingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message);
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailOutboxRelay outboxRelay;
 
-        helper.setFrom("coding-platform-uyo1", "codeDuel");
-        helper.setTo(email);
-
-        helper.setSubject(subject);
-        helper.setText(content, true);
+    public EmailService(EmailOutboxRepository outboxRepository, EmailOutboxRelay outboxRelay) {
+        this.outboxRepository = outboxRepository;
+        this.outboxRelay = outboxRelay;
+    }
 
-        mailSender.send(message);
+    public void queueEmail(String email, EmailTemplate template, String code) {
+        outboxRepository.save(EmailOutbox.builder()
+                .recipient(email)
+                .subject(template.subject())
+                .body(template.render(code))
+                .nextAttemptAt(Instant.now())
+                .build());
+        outboxRelay.wakeUp();
+        logger.debug("Queued {} email for {}", template, email);
     }
 
 
     public void sendTwoFactorCode(String email, String code) {
-        String subject = "Your 2FA Code";
-        String content = "<p>Use the following code to complete your login:</p>"
-                + "<h3>" + code + "</h3>"
-                + "<p>This code will expire in 5 minutes.</p>";
-        try {
-            sendEmail(email, subject, content);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to send 2FA email", e);
-        }
+        queueEmail(email, EmailTemplate.TWO_FACTOR_CODE, code);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.Abhinav.backend.features.authentication.utils;
+
+/**
+ * The transactional emails the platform sends. Each template is a fixed subject and a body with a
+ * single placeholder for the code.
+ */
+public enum EmailTemplate {
+
+    TWO_FACTOR_CODE("Your 2FA Code",
+            "<p>Use the following code to complete your login:</p>"
+                    + "<h3>%s</h3>"
+                    + "<p>This code will expire in 5 minutes.</p>"),
+    EMAIL_VERIFICATION("Email Verification", "Your verification code is: %s"),
+    PASSWORD_RESET("Password Reset", "Your password reset code is: %s");
+
+    private final String subject;
+    private final String body;
+
+    EmailTemplate(String subject, String body) {
+        this.subject = subject;
+        this.body = body;
+    }
+
+    public String subject() {
+        return subject;
+    }
+
+    public String render(String code) {
+        return body.formatted(code);
+    }
+}
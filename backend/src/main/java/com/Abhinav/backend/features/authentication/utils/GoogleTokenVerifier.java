@@ -0,0 +1,100 @@
+package com.Abhinav.backend.features.authentication.utils;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Verifies Google ID tokens against Google's signing keys held in memory, so a login only costs a
+ * local signature check. One verifier and HTTP transport live for the whole application.
+ * <p>
+ * The key set expires according to the Cache-Control max-age Google serves it with. A scheduled
+ * check fetches a new set into a separate keys manager shortly before that and only swaps the
+ * verifier over once the fetch succeeded. {@link GooglePublicKeysManager#refresh()} clears its keys
+ * before downloading, so refreshing the manager in use would leave logins with no keys at all
+ * whenever Google is unreachable.
+ */
+@Component
+public class GoogleTokenVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(GoogleTokenVerifier.class);
+
+    private final List<String> audience;
+    private final Supplier<GooglePublicKeysManager> keysManagerFactory;
+    private final Duration refreshAhead;
+
+    private volatile GoogleIdTokenVerifier verifier;
+
+    @Autowired
+    public GoogleTokenVerifier(@Value("${google.client.id}") String googleClientId,
+                               @Value("${google.certs.refresh-ahead:PT10M}") Duration refreshAhead) {
+        this(googleClientId, refreshAhead, defaultKeysManagerFactory());
+    }
+
+    GoogleTokenVerifier(String googleClientId, Duration refreshAhead, Supplier<GooglePublicKeysManager> keysManagerFactory) {
+        this.audience = List.of(googleClientId);
+        this.keysManagerFactory = keysManagerFactory;
+        this.refreshAhead = refreshAhead;
+        this.verifier = buildVerifier(keysManagerFactory.get());
+    }
+
+
+    /**
+     * Returns the verified token, or {@code null} if the signature, audience, issuer or expiry
+     * check fails.
+     */
+    public GoogleIdToken verify(String idToken) throws GeneralSecurityException, IOException {
+        return verifier.verify(idToken);
+    }
+
+
+    @Scheduled(fixedDelayString = "${google.certs.refresh-check-interval:PT1M}")
+    public void refreshKeysAhead() {
+        long expiresAt = verifier.getExpirationTimeMilliseconds();
+        if (System.currentTimeMillis() + refreshAhead.toMillis() < expiresAt) {
+            return;
+        }
+
+        GooglePublicKeysManager fresh = keysManagerFactory.get();
+        try {
+            fresh.refresh();
+        } catch (GeneralSecurityException | IOException e) {
+            logger.warn("[GOOGLE_CERTS] Could not fetch Google signing keys; the verifier keeps its previous set, which expires in {}s: {}",
+                    Math.max(0, (expiresAt - System.currentTimeMillis()) / 1000), e.getMessage());
+            return;
+        }
+        verifier = buildVerifier(fresh);
+        logger.info("[GOOGLE_CERTS] Swapped in freshly fetched Google signing keys. Valid for {}s.",
+                (fresh.getExpirationTimeMilliseconds() - System.currentTimeMillis()) / 1000);
+    }
+
+
+    GoogleIdTokenVerifier currentVerifier() {
+        return verifier;
+    }
+
+    private GoogleIdTokenVerifier buildVerifier(GooglePublicKeysManager keysManager) {
+        return new GoogleIdTokenVerifier.Builder(keysManager)
+                .setAudience(audience)
+                .build();
+    }
+
+    private static Supplier<GooglePublicKeysManager> defaultKeysManagerFactory() {
+        NetHttpTransport transport = new NetHttpTransport();
+        return () -> new GooglePublicKeysManager.Builder(transport, GsonFactory.getDefaultInstance()).build();
+    }
+}
@@ -45,6 +45,7 @@ public class JwtService {
             AuthenticationUser authUser = (AuthenticationUser) userDetails;
             extraClaims.put("isTwoFactorEnabled", authUser.getTwoFactorEnabled());
             extraClaims.put("userId", authUser.getId());
+            extraClaims.put("username", authUser.resolveUsername());
         }
 
         return buildToken(extraClaims, userDetails, ACCESS_TOKEN_EXPIRATION);
@@ -0,0 +1,95 @@
+package com.Abhinav.backend.features.authentication.utils;
+
+import com.Abhinav.backend.features.exception.TooManyRequestsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Sliding-window limits on credential checks, shared by all instances through Redis.
+ * <p>
+ * Each client IP and each account has a sorted set of attempt timestamps. An attempt is admitted
+ * only if both sets hold fewer entries than their limit inside the window, and is then recorded in
+ * both, so one rejected key never uses up the other's quota. If Redis is unreachable the check
+ * fails open; the bounded hashing pool still caps the damage.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottle.class);
+
+    private static final String IP_PREFIX = "login-throttle:ip:";
+    private static final String ACCOUNT_PREFIX = "login-throttle:account:";
+
+    // Returns 0 when admitted, otherwise milliseconds until the oldest attempt leaves the window.
+    private static final DefaultRedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local wait = 0
+            for i, key in ipairs(KEYS) do
+                redis.call('zremrangebyscore', key, '-inf', now - window)
+                if redis.call('zcard', key) >= tonumber(ARGV[2 + i]) then
+                    local oldest = redis.call('zrange', key, 0, 0, 'WITHSCORES')
+                    wait = math.max(wait, tonumber(oldest[2]) + window - now)
+                end
+            end
+            if wait > 0 then
+                return wait
+            end
+            for _, key in ipairs(KEYS) do
+                redis.call('zadd', key, now, ARGV[5])
+                redis.call('pexpire', key, window)
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+    private final int ipLimit;
+    private final int accountLimit;
+
+    public LoginThrottle(StringRedisTemplate redisTemplate,
+                         @Value("${auth.throttle.window:PT1M}") Duration window,
+                         @Value("${auth.throttle.ip-limit:20}") int ipLimit,
+                         @Value("${auth.throttle.account-limit:5}") int accountLimit) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+        this.ipLimit = ipLimit;
+        this.accountLimit = accountLimit;
+    }
+
+
+    /**
+     * Records an attempt for the client and account, or throws {@link TooManyRequestsException} if
+     * either is over its limit.
+     */
+    public void admit(String clientIp, String account) {
+        Long waitMillis;
+        try {
+            waitMillis = redisTemplate.execute(ADMIT_SCRIPT,
+                    List.of(IP_PREFIX + clientIp, ACCOUNT_PREFIX + account.trim().toLowerCase(Locale.ROOT)),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(window.toMillis()),
+                    String.valueOf(ipLimit),
+                    String.valueOf(accountLimit),
+                    UUID.randomUUID().toString());
+        } catch (Exception e) {
+            logger.warn("[LOGIN_THROTTLE] Redis unavailable, admitting attempt from {}: {}", clientIp, e.getMessage());
+            return;
+        }
+
+        if (waitMillis != null && waitMillis > 0) {
+            logger.info("[LOGIN_THROTTLE] Throttled attempt for account '{}' from {}.", account, clientIp);
+            throw new TooManyRequestsException("Too many attempts. Please wait before trying again.",
+                    Math.max(1, (waitMillis + 999) / 1000));
+        }
+    }
+}
@@ -9,5 +9,6 @@ public record MatchUpdateEvent(
         String verdict,
         long timestamp,
         long timeConsumedMillis,
-        long memoryConsumedBytes
+        long memoryConsumedBytes,
+        long submissionId
 ) {}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.Abhinav.backend.features.duel.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+
+@Getter
+public class DuelEndedEvent extends ApplicationEvent {
+    private final UUID duelId;
+    private final List<Long> playerIds;
+
+    public DuelEndedEvent(Object source, UUID duelId, Long player1Id, Long player2Id) {
+        super(source);
+        this.duelId = duelId;
+        this.playerIds = Stream.of(player1Id, player2Id).filter(Objects::nonNull).toList();
+    }
+
+}
@@ -7,8 +7,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -16,16 +20,49 @@ public class SentinelListener {
 
     private final DuelManager duelManager;
     private final ObjectMapper objectMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String KEY_SEEN = "duel:seen:";
+    private static final Duration SEEN_TTL = Duration.ofHours(6);
 
+    /**
+     * Scores every update in the batch, then fails the batch if any of them could not be scored, so
+     * SQS redelivers it. Updates that were scored are skipped on redelivery by their seen marker.
+     */
     @SqsListener("match-result-queue")
-    public void receiveMatchUpdate(String rawPayload) {
+    public void receiveMatchUpdates(List<String> rawPayloads) {
+        log.info("⬅ [BATCH] {} Sentinel updates from match-result-queue", rawPayloads.size());
+        long failed = rawPayloads.stream().filter(rawPayload -> !receiveMatchUpdate(rawPayload)).count();
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " of " + rawPayloads.size() + " Sentinel updates could not be scored. Leaving the batch for redelivery.");
+        }
+    }
+
+    /**
+     * Returns false when scoring failed and the update should be redelivered. Malformed payloads
+     * are logged and dropped, since redelivering them cannot help.
+     */
+    public boolean receiveMatchUpdate(String rawPayload) {
+        MatchUpdateEvent event;
         try {
             log.info("================= SQS INBOUND ==================");
             log.info("⬅ [SOURCE]  match-result-queue");
             log.info("⬅ [PAYLOAD] {}", rawPayload);
             log.info("================================================");
 
-            MatchUpdateEvent event = objectMapper.readValue(rawPayload, MatchUpdateEvent.class);
+            event = objectMapper.readValue(rawPayload, MatchUpdateEvent.class);
+        } catch (Exception e) {
+            log.error("❌ Malformed Sentinel update. Dropping it. Payload: {}", rawPayload, e);
+            return true;
+        }
+
+        String seenKey = KEY_SEEN + event.matchId() + ":" + event.submissionId();
+        boolean deduplicated = event.submissionId() > 0;
+        try {
+            if (deduplicated && !Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(seenKey, "1", SEEN_TTL))) {
+                log.info("↩ Duplicate delivery of submission {} for Duel {}. Skipping.", event.submissionId(), event.matchId());
+                return true;
+            }
 
             long relativeTimeSeconds = 0;
 
@@ -38,9 +75,23 @@ public class SentinelListener {
             );
 
             duelManager.submitScoreByHandle(event.matchId(), event.userHandle(), request);
+            return true;
 
         } catch (Exception e) {
-            log.error("❌ Error processing Sentinel update. Payload: {}", rawPayload, e);
+            log.error("❌ Error processing Sentinel update. It will be redelivered. Payload: {}", rawPayload, e);
+            if (deduplicated) {
+                forgetSeen(seenKey);
+            }
+            return false;
+        }
+    }
+
+    // Without this the redelivery would be taken for a duplicate and the score lost.
+    private void forgetSeen(String seenKey) {
+        try {
+            stringRedisTemplate.delete(seenKey);
+        } catch (Exception e) {
+            log.error("❌ Could not clear seen marker {}. The redelivery will be skipped.", seenKey, e);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.Abhinav.backend.features.duel.service;
 
 import com.Abhinav.backend.features.duel.dto.*;
+import com.Abhinav.backend.features.duel.events.DuelEndedEvent;
 import com.Abhinav.backend.features.duel.model.*;
 import com.Abhinav.backend.features.duel.producer.SentinelProducer;
 import com.Abhinav.backend.features.duel.repository.DuelRepository;
@@ -10,6 +11,7 @@ import com.Abhinav.backend.features.exception.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.*;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
@@ -42,6 +44,7 @@ public class DuelManagerImpl implements DuelManager {
     private final ObjectMapper objectMapper;
     private final DuelNotificationService notificationService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
 
@@ -347,6 +350,7 @@ public class DuelManagerImpl implements DuelManager {
             duelRepository.save(history);
             if (updateStats) updateUserStats(p1Id, p2Id, winnerId, isDraw);
         }
+        eventPublisher.publishEvent(new DuelEndedEvent(this, data.getDuelId(), p1Id, p2Id));
     }
 
     private void updateUserStats(Long p1Id, Long p2Id, Long winnerId, boolean isDraw) {
@@ -0,0 +1,33 @@
+package com.Abhinav.backend.features.judge0.executor;
+
+import com.Abhinav.backend.features.judge0.service.Judge0Service;
+import com.Abhinav.backend.features.submission.dto.SubmissionResultDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A backend that can run a submission against its test cases. Judge0ServiceImpl routes every
+ * execution to one of the registered executors; additional executors (another judge cluster, a
+ * local process sandbox) only need to be exposed as Spring beans.
+ */
+public interface CodeExecutor {
+
+    String name();
+
+    /** Executors in a lower tier are always preferred while at least one of them is healthy. */
+    int tier();
+
+    /**
+     * Runs the code and returns the aggregated verdict, reporting finished test cases to
+     * {@code progressListener} as they complete.
+     *
+     * @throws CodeExecutorUnavailableException if the executor certainly did not accept the work,
+     *         so the submission can be retried on another executor
+     */
+    SubmissionResultDTO execute(String sourceCode, String languageSlug, List<Judge0Service.TestCase> testCases, UUID matchId,
+                                Judge0Service.ProgressListener progressListener);
+
+    /** Cheap liveness probe used to bring an executor back after it was marked unhealthy. */
+    boolean isAlive();
+}
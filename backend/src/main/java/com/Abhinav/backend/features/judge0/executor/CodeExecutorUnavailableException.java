@@ -0,0 +1,7 @@
+package com.Abhinav.backend.features.judge0.executor;
+
+public class CodeExecutorUnavailableException extends RuntimeException {
+    public CodeExecutorUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,264 @@
+package com.Abhinav.backend.features.judge0.executor;
+
+import com.Abhinav.backend.features.judge0.dto.*;
+import com.Abhinav.backend.features.judge0.service.Judge0Service;
+import com.Abhinav.backend.features.submission.dto.SubmissionResultDTO;
+import com.Abhinav.backend.features.submission.model.Language;
+import com.Abhinav.backend.features.submission.model.SubmissionStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Executes code on a Judge0-compatible HTTP endpoint: the RapidAPI-hosted Judge0 or a self-hosted
+ * Judge0 node. The two only differ in base URL and authentication headers.
+ */
+public class Judge0HttpExecutor implements CodeExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(Judge0HttpExecutor.class);
+    private static final long POLLING_INTERVAL_MS = 300;
+
+    private final String name;
+    private final int tier;
+    private final String baseUrl;
+    private final Map<String, String> authHeaders;
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Judge0HttpExecutor(String name, int tier, String baseUrl, Map<String, String> authHeaders,
+                              RestTemplate restTemplate, ObjectMapper objectMapper) {
+        this.name = name;
+        this.tier = tier;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.authHeaders = Map.copyOf(authHeaders);
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public int tier() {
+        return tier;
+    }
+
+    @Override
+    public boolean isAlive() {
+        try {
+            return restTemplate.exchange(baseUrl + "/about", HttpMethod.GET, new HttpEntity<>(headers()), String.class)
+                    .getStatusCode().is2xxSuccessful();
+        } catch (RestClientException e) {
+            logger.debug("[JUDGE0 {}] Health probe failed: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public SubmissionResultDTO execute(String sourceCode, String languageSlug, List<Judge0Service.TestCase> testCases, UUID matchId,
+                                       Judge0Service.ProgressListener progressListener) {
+        String executionId = UUID.randomUUID().toString().substring(0, 8);
+        String logPrefix = "[JUDGE0_EXEC " + executionId + " node=" + name + "]";
+        logger.info("{} -> Executing code in '{}' against {} test cases.", logPrefix, languageSlug, testCases.size());
+
+        HttpHeaders headers = headers();
+
+        List<Judge0SubmissionRequest> submissions = testCases.stream()
+                .map(tc -> new Judge0SubmissionRequest(sourceCode, Language.fromSlug(languageSlug).getJudge0Id(), tc.input(), tc.expectedOutput()))
+                .toList();
+
+        Judge0BatchSubmissionRequest batchRequest = new Judge0BatchSubmissionRequest(submissions);
+        String jsonBody;
+        try {
+            jsonBody = objectMapper.writeValueAsString(batchRequest);
+        } catch (Exception e) {
+            logger.error("{} Failed to serialize batchRequest.", logPrefix, e);
+            return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
+        }
+
+        HttpEntity<String> entity = new HttpEntity<>(jsonBody, headers);
+
+        // Batch submission is not idempotent, so it is only handed to another node when this one
+        // certainly never took it: the connection could not be opened, it answered 5xx, or it rate-limited us.
+        List<String> tokens;
+        try {
+            ResponseEntity<List<Judge0Token>> response = restTemplate.exchange(baseUrl + "/submissions/batch?base64_encoded=false&wait=false", HttpMethod.POST, entity, new ParameterizedTypeReference<>() {});
+            tokens = response.getBody() == null ? List.of() : response.getBody().stream().map(Judge0Token::token).toList();
+        } catch (HttpServerErrorException e) {
+            throw new CodeExecutorUnavailableException("Judge0 node " + name + " answered " + e.getStatusCode() + " to the batch", e);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                throw new CodeExecutorUnavailableException("Judge0 node " + name + " is rate limiting batches", e);
+            }
+            logger.error("{} Judge0 rejected the batch with {}: {}", logPrefix, e.getStatusCode(), e.getResponseBodyAsString());
+            return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
+        } catch (ResourceAccessException e) {
+            if (isConnectFailure(e)) {
+                throw new CodeExecutorUnavailableException("Could not connect to Judge0 node " + name, e);
+            }
+            // The request went out, so the node may have queued the batch; sending it again elsewhere would run it twice.
+            logger.error("{} Lost the response to the batch submission: {}", logPrefix, e.getMessage(), e);
+            return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
+        } catch (RestClientException e) {
+            logger.error("{} Could not read the batch submission response: {}", logPrefix, e.getMessage(), e);
+            return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
+        }
+
+        if (tokens.isEmpty()) {
+            logger.error("{} No tokens received from Judge0.", logPrefix);
+            return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
+        }
+
+        logger.info("{} Polling for batch results with {} tokens.", logPrefix, tokens.size());
+
+        // Finished results are kept per token and only still-running tokens are polled again.
+        Map<String, Judge0SubmissionResponse> finished = new HashMap<>();
+        int passed = 0;
+        double maxTimeSoFar = 0;
+
+        while (finished.size() < tokens.size()) {
+            List<String> pending = tokens.stream().filter(token -> !finished.containsKey(token)).toList();
+            String pollUrl = UriComponentsBuilder.fromHttpUrl(baseUrl + "/submissions/batch")
+                    .queryParam("tokens", String.join(",", pending))
+                    .queryParam("base64_encoded", "true")
+                    .queryParam("fields", "status,stdout,stderr,compile_output,time,memory,token")
+                    .toUriString();
+
+            List<Judge0SubmissionResponse> pollResults;
+            try {
+                Thread.sleep(POLLING_INTERVAL_MS);
+                ResponseEntity<Judge0GetBatchResponse> pollResponse = restTemplate.exchange(pollUrl, HttpMethod.GET, new HttpEntity<>(headers), Judge0GetBatchResponse.class);
+                pollResults = Objects.requireNonNull(pollResponse.getBody()).submissions();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.error("{} Interrupted while polling Judge0 results.", logPrefix);
+                return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
+            } catch (Exception e) {
+                // Tokens live on this node only, so a node that dies mid-poll cannot be resumed elsewhere.
+                logger.error("{} Error while polling Judge0 results: {}", logPrefix, e.getMessage(), e);
+                return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
+            }
+
+            int before = finished.size();
+            for (Judge0SubmissionResponse result : pollResults) {
+                if (result != null && result.status() != null && result.status().id() > 2) {
+                    finished.put(result.token(), result);
+                    if (result.status().id() == 3) passed++;
+                    if (result.time() != null && result.time() > maxTimeSoFar) maxTimeSoFar = result.time();
+                }
+            }
+            if (finished.size() > before) {
+                notifyProgress(progressListener, finished.size(), passed, tokens.size(), (int) (maxTimeSoFar * 1000), logPrefix);
+            }
+        }
+
+        List<Judge0SubmissionResponse> pollResults = tokens.stream().map(finished::get).toList();
+
+        List<Judge0SubmissionResponse> decodedResults = pollResults.stream()
+                .map(result -> new Judge0SubmissionResponse(
+                        decodeBase64(result.stdout()),
+                        decodeBase64(result.stderr()),
+                        decodeBase64(result.compileOutput()),
+                        decodeBase64(result.message()),
+                        result.time(),
+                        result.memory(),
+                        result.status(),
+                        result.token()
+                ))
+                .collect(Collectors.toList());
+
+        return aggregateResults(decodedResults, logPrefix, matchId);
+    }
+
+    private void notifyProgress(Judge0Service.ProgressListener listener, int completed, int passed, int total, int maxRuntimeMs, String logPrefix) {
+        try {
+            listener.onProgress(completed, passed, total, maxRuntimeMs);
+        } catch (Exception e) {
+            logger.warn("{} Progress listener failed: {}", logPrefix, e.getMessage());
+        }
+    }
+
+    private static boolean isConnectFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof NoRouteToHostException || cause instanceof UnknownHostException) {
+                return true;
+            }
+            // HttpURLConnection reports connect and read timeouts with the same type; only the message tells them apart.
+            if (cause instanceof SocketTimeoutException && cause.getMessage() != null
+                    && cause.getMessage().toLowerCase(Locale.ROOT).startsWith("connect")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        authHeaders.forEach(headers::set);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        return headers;
+    }
+
+    private String decodeBase64(String encoded) {
+        if (encoded == null) return null;
+        try {
+            return new String(Base64.getDecoder().decode(encoded));
+        } catch (IllegalArgumentException e) {
+            return encoded;
+        }
+    }
+
+    private SubmissionResultDTO aggregateResults(List<Judge0SubmissionResponse> results, String logPrefix, UUID matchId) {
+        double maxTimeInSeconds = 0;
+        int maxMemoryInKb = 0;
+        for (Judge0SubmissionResponse result : results) {
+            int statusId = result.status().id();
+            if (statusId == 6) { // Compilation Error
+                logger.info("{} Found 'Compilation Error'.", logPrefix);
+                return SubmissionResultDTO.builder()
+                        .status(SubmissionStatus.COMPILATION_ERROR)
+                        .stderr(result.compileOutput())
+                        .build();
+            }
+            if (statusId > 6) { // Runtime Error
+                logger.info("{} Found a terminal error: '{}'.", logPrefix, result.status().description());
+                return SubmissionResultDTO.builder().status(SubmissionStatus.RUNTIME_ERROR).stderr(result.stderr()).build();
+            }
+            if (statusId == 5) { // Time Limit Exceeded
+                logger.info("{} Found 'Time Limit Exceeded'.", logPrefix);
+                return SubmissionResultDTO.builder().status(SubmissionStatus.TIME_LIMIT_EXCEEDED).build();
+            }
+            if (statusId == 4) { // Wrong Answer
+                logger.info("{} Found 'Wrong Answer'.", logPrefix);
+                return SubmissionResultDTO.builder().status(SubmissionStatus.WRONG_ANSWER).stderr(result.stderr()).stdout(result.stdout()).build();
+            }
+            if (result.time() != null && result.time() > maxTimeInSeconds) maxTimeInSeconds = result.time();
+            if (result.memory() != null && result.memory() > maxMemoryInKb) maxMemoryInKb = result.memory();
+        }
+        logger.info("{} <- All test cases passed. Final result: ACCEPTED", logPrefix);
+        return SubmissionResultDTO.builder()
+                .status(SubmissionStatus.ACCEPTED)
+                .runtimeMs((int) (maxTimeInSeconds * 1000))
+                .matchId(matchId)
+                .memoryKb(maxMemoryInKb)
+                .build();
+    }
+}
@@ -9,6 +9,18 @@ public interface Judge0Service {
 
     record TestCase(String input, String expectedOutput) {}
 
+    /** Called every time one or more test cases of a running execution finish. */
+    @FunctionalInterface
+    interface ProgressListener {
+        ProgressListener NONE = (completed, passed, total, maxRuntimeMs) -> {};
 
-    SubmissionResultDTO executeCode(String sourceCode, String languageSlug, List<TestCase> testCases, UUID matchId);
-}
\ No newline at end of file
+        void onProgress(int completed, int passed, int total, int maxRuntimeMs);
+    }
+
+
+    default SubmissionResultDTO executeCode(String sourceCode, String languageSlug, List<TestCase> testCases, UUID matchId) {
+        return executeCode(sourceCode, languageSlug, testCases, matchId, ProgressListener.NONE);
+    }
+
+    SubmissionResultDTO executeCode(String sourceCode, String languageSlug, List<TestCase> testCases, UUID matchId, ProgressListener progressListener);
+}
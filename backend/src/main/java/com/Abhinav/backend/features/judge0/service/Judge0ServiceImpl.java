@@ -1,33 +1,42 @@
 package com.Abhinav.backend.features.judge0.service;
 
-import com.Abhinav.backend.features.judge0.dto.*;
+import com.Abhinav.backend.features.judge0.executor.CodeExecutor;
+import com.Abhinav.backend.features.judge0.executor.CodeExecutorUnavailableException;
+import com.Abhinav.backend.features.judge0.executor.Judge0HttpExecutor;
 import com.Abhinav.backend.features.submission.dto.SubmissionResultDTO;
-import com.Abhinav.backend.features.submission.model.Language;
 import com.Abhinav.backend.features.submission.model.SubmissionStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.*;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes executions across every available {@link CodeExecutor}. Self-hosted Judge0 nodes
+ * (tier 0) are preferred, the RapidAPI endpoint (tier 1) is the fallback, and within a tier the
+ * node with the fewest in-flight executions wins. A node that cannot be reached is taken out of
+ * rotation until a health probe sees it again.
+ */
 @Service
 @RequiredArgsConstructor
 public class Judge0ServiceImpl implements Judge0Service {
 
     private static final Logger logger = LoggerFactory.getLogger(Judge0ServiceImpl.class);
-    private static final long POLLING_INTERVAL_MS = 300;
+
+    private static final int SELF_HOSTED_TIER = 0;
+    private static final int RAPID_API_TIER = 1;
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ObjectProvider<CodeExecutor> pluggedExecutors;
 
     @Value("${judge0.api.url}")
     private String judge0ApiUrl;
@@ -35,130 +44,92 @@ public class Judge0ServiceImpl implements Judge0Service {
     private String judge0ApiKey;
     @Value("${judge0.api.host}")
     private String judge0ApiHost;
+    @Value("${judge0.self-hosted.urls:}")
+    private List<String> selfHostedUrls;
+    @Value("${judge0.self-hosted.auth-token:}")
+    private String selfHostedAuthToken;
 
+    private final List<Node> nodes = new ArrayList<>();
 
-    @Override
-    public SubmissionResultDTO executeCode(String sourceCode, String languageSlug, List<TestCase> testCases, UUID matchId) {
-        String executionId = UUID.randomUUID().toString().substring(0, 8);
-        String logPrefix = "[JUDGE0_EXEC " + executionId + "]";
-        logger.info("{} -> Executing code in '{}' against {} test cases.", logPrefix, languageSlug, testCases.size());
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("X-RapidAPI-Key", judge0ApiKey);
-        headers.set("X-RapidAPI-Host", judge0ApiHost);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-
-        List<Judge0SubmissionRequest> submissions = testCases.stream()
-                .map(tc -> new Judge0SubmissionRequest(sourceCode, Language.fromSlug(languageSlug).getJudge0Id(), tc.input(), tc.expectedOutput()))
-                .toList();
-
-        Judge0BatchSubmissionRequest batchRequest = new Judge0BatchSubmissionRequest(submissions);
-        String jsonBody;
-        try {
-            jsonBody = objectMapper.writeValueAsString(batchRequest);
-        } catch (Exception e) {
-            logger.error("{} Failed to serialize batchRequest.", logPrefix, e);
-            return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
-        }
-
-        HttpEntity<String> entity = new HttpEntity<>(jsonBody, headers);
 
-        List<String> tokens;
-        try {
-            ResponseEntity<List<Judge0Token>> response = restTemplate.exchange(judge0ApiUrl + "/submissions/batch?base64_encoded=false&wait=false", HttpMethod.POST, entity, new org.springframework.core.ParameterizedTypeReference<>() {});
-            tokens = Objects.requireNonNull(response.getBody()).stream().map(Judge0Token::token).toList();
-        } catch (RestClientException e) {
-            logger.error("{} Failed to submit batch to Judge0.", logPrefix, e);
-            return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
+    @PostConstruct
+    void registerExecutors() {
+        for (int i = 0; i < selfHostedUrls.size(); i++) {
+            String url = selfHostedUrls.get(i).trim();
+            if (url.isEmpty()) continue;
+            Map<String, String> auth = selfHostedAuthToken.isBlank() ? Map.of() : Map.of("X-Auth-Token", selfHostedAuthToken);
+            nodes.add(new Node(new Judge0HttpExecutor("self-hosted-" + i, SELF_HOSTED_TIER, url, auth, restTemplate, objectMapper)));
         }
-
-        if (tokens.isEmpty()) {
-            logger.error("{} No tokens received from Judge0.", logPrefix);
-            return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
+        if (judge0ApiUrl != null && !judge0ApiUrl.isBlank()) {
+            Map<String, String> auth = Map.of("X-RapidAPI-Key", judge0ApiKey, "X-RapidAPI-Host", judge0ApiHost);
+            nodes.add(new Node(new Judge0HttpExecutor("rapidapi", RAPID_API_TIER, judge0ApiUrl, auth, restTemplate, objectMapper)));
         }
+        pluggedExecutors.orderedStream().forEach(executor -> nodes.add(new Node(executor)));
 
-        String tokenString = String.join(",", tokens);
-        logger.info("{} Polling for batch results with {} tokens.", logPrefix, tokens.size());
+        logger.info("Registered {} code executors: {}", nodes.size(), nodes.stream().map(node -> node.executor.name()).toList());
+    }
 
-        String pollUrl = UriComponentsBuilder.fromHttpUrl(judge0ApiUrl + "/submissions/batch")
-                .queryParam("tokens", tokenString)
-                .queryParam("base64_encoded", "true")
-                .queryParam("fields", "status,stdout,stderr,compile_output,time,memory,token")
-                .toUriString();
 
-        List<Judge0SubmissionResponse> pollResults;
-        while (true) {
+    @Override
+    public SubmissionResultDTO executeCode(String sourceCode, String languageSlug, List<TestCase> testCases, UUID matchId,
+                                           ProgressListener progressListener) {
+        Set<Node> tried = new HashSet<>();
+        Node node;
+        while ((node = pickNode(tried)) != null) {
+            tried.add(node);
+            node.inFlight.incrementAndGet();
             try {
-                Thread.sleep(POLLING_INTERVAL_MS);
-                ResponseEntity<Judge0GetBatchResponse> pollResponse = restTemplate.exchange(pollUrl, HttpMethod.GET, new HttpEntity<>(headers), Judge0GetBatchResponse.class);
-                pollResults = Objects.requireNonNull(pollResponse.getBody()).submissions();
-                boolean allDone = pollResults.stream().allMatch(r -> r.status() != null && r.status().id() > 2);
-                if (allDone) break;
-            } catch (Exception e) {
-                logger.error("{} Error while polling Judge0 results: {}", logPrefix, e.getMessage(), e);
-                return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
+                return node.executor.execute(sourceCode, languageSlug, testCases, matchId, progressListener);
+            } catch (CodeExecutorUnavailableException e) {
+                node.healthy = false;
+                logger.warn("Executor '{}' is unavailable, taking it out of rotation: {}", node.executor.name(), e.getMessage());
+            } finally {
+                node.inFlight.decrementAndGet();
             }
         }
 
-        List<Judge0SubmissionResponse> decodedResults = pollResults.stream()
-                .map(result -> new Judge0SubmissionResponse(
-                        decodeBase64(result.stdout()),
-                        decodeBase64(result.stderr()),
-                        decodeBase64(result.compileOutput()),
-                        decodeBase64(result.message()),
-                        result.time(),
-                        result.memory(),
-                        result.status(),
-                        result.token()
-                ))
-                .collect(Collectors.toList());
-
-        return aggregateResults(decodedResults, logPrefix, matchId);
+        logger.error("No code executor could run the submission ({} registered, {} tried).", nodes.size(), tried.size());
+        return SubmissionResultDTO.builder().status(SubmissionStatus.INTERNAL_ERROR).stderr("Something went wrong").build();
     }
 
-    private String decodeBase64(String encoded) {
-        if (encoded == null) return null;
-        try {
-            return new String(Base64.getDecoder().decode(encoded));
-        } catch (IllegalArgumentException e) {
-            return encoded;
+
+    @Scheduled(fixedDelayString = "${judge0.health-check-interval-ms:15000}")
+    public void probeUnhealthyExecutors() {
+        for (Node node : nodes) {
+            if (!node.healthy && node.executor.isAlive()) {
+                node.healthy = true;
+                logger.info("Executor '{}' is reachable again and back in rotation.", node.executor.name());
+            }
         }
     }
 
-    private SubmissionResultDTO aggregateResults(List<Judge0SubmissionResponse> results, String logPrefix, UUID matchId) {
-        double maxTimeInSeconds = 0;
-        int maxMemoryInKb = 0;
-        for (Judge0SubmissionResponse result : results) {
-            int statusId = result.status().id();
-            if (statusId == 6) { // Compilation Error
-                logger.info("{} Found 'Compilation Error'.", logPrefix);
-                return SubmissionResultDTO.builder()
-                        .status(SubmissionStatus.COMPILATION_ERROR)
-                        .stderr(result.compileOutput())
-                        .build();
-            }
-            if (statusId > 6) { // Runtime Error
-                logger.info("{} Found a terminal error: '{}'.", logPrefix, result.status().description());
-                return SubmissionResultDTO.builder().status(SubmissionStatus.RUNTIME_ERROR).stderr(result.stderr()).build();
-            }
-            if (statusId == 5) { // Time Limit Exceeded
-                logger.info("{} Found 'Time Limit Exceeded'.", logPrefix);
-                return SubmissionResultDTO.builder().status(SubmissionStatus.TIME_LIMIT_EXCEEDED).build();
-            }
-            if (statusId == 4) { // Wrong Answer
-                logger.info("{} Found 'Wrong Answer'.", logPrefix);
-                return SubmissionResultDTO.builder().status(SubmissionStatus.WRONG_ANSWER).stderr(result.stderr()).stdout(result.stdout()).build();
-            }
-            if (result.time() != null && result.time() > maxTimeInSeconds) maxTimeInSeconds = result.time();
-            if (result.memory() != null && result.memory() > maxMemoryInKb) maxMemoryInKb = result.memory();
+
+    private Node pickNode(Set<Node> tried) {
+        Comparator<Node> preference = Comparator
+                .comparingInt((Node node) -> node.executor.tier())
+                .thenComparingInt(node -> node.inFlight.get());
+
+        Optional<Node> healthy = nodes.stream()
+                .filter(node -> node.healthy && !tried.contains(node))
+                .min(preference);
+        if (healthy.isPresent()) {
+            return healthy.get();
+        }
+        // Every node is marked down: try the ones not attempted yet anyway rather than failing the submission outright.
+        return nodes.stream()
+                .filter(node -> !tried.contains(node))
+                .min(preference)
+                .orElse(null);
+    }
+
+
+    private static final class Node {
+        private final CodeExecutor executor;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean healthy = true;
+
+        private Node(CodeExecutor executor) {
+            this.executor = executor;
         }
-        logger.info("{} <- All test cases passed. Final result: ACCEPTED", logPrefix);
-        return SubmissionResultDTO.builder()
-                .status(SubmissionStatus.ACCEPTED)
-                .runtimeMs((int) (maxTimeInSeconds * 1000))
-                .matchId(matchId)
-                .memoryKb(maxMemoryInKb)
-                .build();
     }
 }
@@ -0,0 +1,29 @@
+package com.Abhinav.backend.features.match.events;
+
+import com.Abhinav.backend.features.match.model.MatchStatus;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+
+/**
+ * Published when a match reaches a final status (COMPLETED, CANCELED or EXPIRED).
+ */
+@Getter
+public class MatchEndedEvent extends ApplicationEvent {
+    private final UUID matchId;
+    private final MatchStatus status;
+    private final List<Long> playerIds;
+
+    public MatchEndedEvent(Object source, UUID matchId, MatchStatus status, Long playerOneId, Long playerTwoId) {
+        super(source);
+        this.matchId = matchId;
+        this.status = status;
+        this.playerIds = Stream.of(playerOneId, playerTwoId).filter(Objects::nonNull).toList();
+    }
+
+}
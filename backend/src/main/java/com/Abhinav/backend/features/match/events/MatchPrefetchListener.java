@@ -0,0 +1,25 @@
+package com.Abhinav.backend.features.match.events;
+
+import com.Abhinav.backend.features.match.service.MatchPrefetcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class MatchPrefetchListener {
+
+    private final MatchPrefetcher matchPrefetcher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMatchScheduled(MatchScheduledEvent event) {
+        matchPrefetcher.prefetchPlayers(event.getMatchId(), event.getPlayerIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMatchStarted(MatchStartedEvent event) {
+        matchPrefetcher.prefetchProblem(event.getMatchId(), event.getProblemId());
+        matchPrefetcher.prefetchPlayers(event.getMatchId(), event.getPlayerIds());
+    }
+}
@@ -0,0 +1,26 @@
+package com.Abhinav.backend.features.match.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+
+/**
+ * Published when the second player joins and the match is scheduled to start.
+ */
+@Getter
+public class MatchScheduledEvent extends ApplicationEvent {
+    private final UUID matchId;
+    private final List<Long> playerIds;
+
+    public MatchScheduledEvent(Object source, UUID matchId, Long playerOneId, Long playerTwoId) {
+        super(source);
+        this.matchId = matchId;
+        this.playerIds = Stream.of(playerOneId, playerTwoId).filter(Objects::nonNull).toList();
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.Abhinav.backend.features.match.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+
+/**
+ * Published when a match becomes ACTIVE and its problem has been chosen.
+ */
+@Getter
+public class MatchStartedEvent extends ApplicationEvent {
+    private final UUID matchId;
+    private final UUID problemId;
+    private final List<Long> playerIds;
+
+    public MatchStartedEvent(Object source, UUID matchId, UUID problemId, Long playerOneId, Long playerTwoId) {
+        super(source);
+        this.matchId = matchId;
+        this.problemId = problemId;
+        this.playerIds = Stream.of(playerOneId, playerTwoId).filter(Objects::nonNull).toList();
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.Abhinav.backend.features.match.model;
 
+import com.Abhinav.backend.core.persistence.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,7 +20,7 @@ import java.util.UUID;
 public class Match {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "room_code", nullable = false, unique = true)
@@ -1,10 +1,12 @@
 package com.Abhinav.backend.features.match.service;
 
+import com.Abhinav.backend.features.match.events.MatchEndedEvent;
 import com.Abhinav.backend.features.match.model.Match;
 import com.Abhinav.backend.features.match.model.MatchStatus;
 import com.Abhinav.backend.features.match.repository.MatchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +21,7 @@ import java.util.List;
 public class MatchCleanupService {
 
     private final MatchRepository matchRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private static final int EXPIRATION_MINUTES = 15;
 
 
@@ -46,6 +49,8 @@ public class MatchCleanupService {
         }
 
         matchRepository.saveAll(staleMatches);
+        staleMatches.forEach(match -> eventPublisher.publishEvent(
+                new MatchEndedEvent(this, match.getId(), MatchStatus.EXPIRED, match.getPlayerOneId(), match.getPlayerTwoId())));
         log.info("[MATCH_CLEANUP] Finished expiring stale matches.");
     }
 }
\ No newline at end of file
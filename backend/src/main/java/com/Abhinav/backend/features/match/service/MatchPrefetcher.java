@@ -0,0 +1,92 @@
+package com.Abhinav.backend.features.match.service;
+
+import com.Abhinav.backend.features.AWS.service.S3Service;
+import com.Abhinav.backend.features.authentication.service.UsernameService;
+import com.Abhinav.backend.features.problem.repository.ProblemRepository;
+import com.Abhinav.backend.features.problem.service.ProblemService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms the caches a match is about to hit, off the request path: player usernames once the match
+ * is scheduled, and the problem details plus its full test-case set once the problem is chosen.
+ * That way the first verdict of a match does not pay for the S3 download and parse. Prefetching
+ * is best effort; if the pool is saturated the task is dropped and the normal cache-miss path runs.
+ */
+@Component
+public class MatchPrefetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchPrefetcher.class);
+
+    private final S3Service s3Service;
+    private final ProblemService problemService;
+    private final ProblemRepository problemRepository;
+    private final UsernameService usernameService;
+    private final ThreadPoolExecutor prefetchPool;
+
+    public MatchPrefetcher(S3Service s3Service,
+                           ProblemService problemService,
+                           ProblemRepository problemRepository,
+                           UsernameService usernameService,
+                           @Value("${match.prefetch.threads:2}") int threads,
+                           @Value("${match.prefetch.queue-capacity:100}") int queueCapacity) {
+        this.s3Service = s3Service;
+        this.problemService = problemService;
+        this.problemRepository = problemRepository;
+        this.usernameService = usernameService;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.prefetchPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "match-prefetch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void prefetchPlayers(UUID matchId, List<Long> playerIds) {
+        submit(matchId, () -> playerIds.forEach(usernameService::getUsername));
+    }
+
+    public void prefetchProblem(UUID matchId, UUID problemId) {
+        submit(matchId, () -> {
+            problemService.getProblemById(problemId);
+            problemRepository.findById(problemId).ifPresent(s3Service::getOrFetchAllTestCases);
+        });
+    }
+
+    private void submit(UUID matchId, Runnable task) {
+        String logPrefix = "[MATCH_PREFETCH matchId=" + matchId + "]";
+        try {
+            prefetchPool.execute(() -> {
+                long start = System.currentTimeMillis();
+                try {
+                    task.run();
+                    logger.info("{} Caches warmed in {} ms.", logPrefix, System.currentTimeMillis() - start);
+                } catch (Exception e) {
+                    logger.warn("{} Prefetch failed. The first request will load on demand: {}", logPrefix, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("{} Prefetch pool is saturated. Skipping.", logPrefix);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchPool.shutdown();
+    }
+}
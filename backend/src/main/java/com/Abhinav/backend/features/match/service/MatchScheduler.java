@@ -4,6 +4,8 @@ import com.Abhinav.backend.features.match.dto.CountdownStartPayload;
 import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
 import com.Abhinav.backend.features.authentication.repository.AuthenticationUserRepository;
 import com.Abhinav.backend.features.match.dto.LiveMatchStateDTO;
+import com.Abhinav.backend.features.match.events.MatchEndedEvent;
+import com.Abhinav.backend.features.match.events.MatchStartedEvent;
 import com.Abhinav.backend.features.match.model.Match;
 import com.Abhinav.backend.features.match.model.MatchStatus;
 import com.Abhinav.backend.features.match.repository.LiveMatchStateRepository;
@@ -11,6 +13,7 @@ import com.Abhinav.backend.features.match.repository.MatchRepository;
 import com.Abhinav.backend.features.problem.repository.ProblemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,13 +35,7 @@ public class MatchScheduler {
     private final LiveMatchStateRepository liveMatchStateRepository;
     private final MatchNotificationService matchNotificationService;
     private final AuthenticationUserRepository userRepository;
-
-    private String getUsernameFromEmail(String email) {
-        if (email == null || !email.contains("@")) {
-            return "anonymous";
-        }
-        return email.substring(0, email.indexOf("@"));
-    }
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(fixedRate = 15000)
     @Transactional
@@ -69,6 +66,7 @@ public class MatchScheduler {
                     match.setStatus(MatchStatus.CANCELED);
                     match.setEndedAt(Instant.now());
                     matchRepository.save(match);
+                    eventPublisher.publishEvent(new MatchEndedEvent(this, match.getId(), MatchStatus.CANCELED, match.getPlayerOneId(), match.getPlayerTwoId()));
                     matchNotificationService.notifyMatchCanceled(match.getId(), "Could not find a suitable problem for both players.");
                     continue;
                 }
@@ -76,12 +74,13 @@ public class MatchScheduler {
                 UUID problemId = problemIdOpt.get();
 
                 Map<Long, String> usernameMap = userRepository.findByIdIn(List.of(match.getPlayerOneId(), match.getPlayerTwoId())).stream()
-                        .collect(Collectors.toMap(AuthenticationUser::getId, user -> getUsernameFromEmail(user.getEmail())));
+                        .collect(Collectors.toMap(AuthenticationUser::getId, AuthenticationUser::resolveUsername));
 
                 match.setStatus(MatchStatus.ACTIVE);
                 match.setProblemId(problemId);
                 match.setStartedAt(Instant.now());
                 matchRepository.save(match);
+                eventPublisher.publishEvent(new MatchStartedEvent(this, match.getId(), problemId, match.getPlayerOneId(), match.getPlayerTwoId()));
 
                 LiveMatchStateDTO liveState = LiveMatchStateDTO.builder()
                         .matchId(match.getId())
@@ -114,6 +113,7 @@ public class MatchScheduler {
                 match.setStatus(MatchStatus.CANCELED);
                 match.setEndedAt(Instant.now());
                 matchRepository.save(match);
+                eventPublisher.publishEvent(new MatchEndedEvent(this, match.getId(), MatchStatus.CANCELED, match.getPlayerOneId(), match.getPlayerTwoId()));
                 matchNotificationService.notifyMatchCanceled(match.getId(), "An internal error occurred while starting the match.");
             }
         }
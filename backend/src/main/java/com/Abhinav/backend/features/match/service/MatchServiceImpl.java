@@ -2,6 +2,7 @@ package com.Abhinav.backend.features.match.service;
 
 import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
 import com.Abhinav.backend.features.authentication.repository.AuthenticationUserRepository;
+import com.Abhinav.backend.features.authentication.service.UsernameService;
 import com.Abhinav.backend.features.duel.model.DuelHistory;
 import com.Abhinav.backend.features.duel.repository.DuelRepository;
 import com.Abhinav.backend.features.exception.InvalidRequestException;
@@ -9,6 +10,8 @@ import com.Abhinav.backend.features.exception.MatchAlreadyCompletedException;
 import com.Abhinav.backend.features.exception.ResourceConflictException;
 import com.Abhinav.backend.features.exception.ResourceNotFoundException;
 import com.Abhinav.backend.features.match.dto.*;
+import com.Abhinav.backend.features.match.events.MatchEndedEvent;
+import com.Abhinav.backend.features.match.events.MatchScheduledEvent;
 import com.Abhinav.backend.features.match.model.Match;
 import com.Abhinav.backend.features.match.model.MatchStatus;
 import com.Abhinav.backend.features.match.model.UserStats;
@@ -18,6 +21,7 @@ import com.Abhinav.backend.features.match.repository.UserStatsRepository;
 import com.Abhinav.backend.features.problem.dto.ProblemDetailResponse;
 import com.Abhinav.backend.features.problem.model.Problem;
 import com.Abhinav.backend.features.problem.repository.ProblemRepository;
+import com.Abhinav.backend.features.problem.service.ProblemService;
 import com.Abhinav.backend.features.submission.model.Submission;
 import com.Abhinav.backend.features.submission.model.SubmissionStatus;
 import com.Abhinav.backend.features.submission.repository.SubmissionRepository;
@@ -25,8 +29,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -52,7 +56,9 @@ public class MatchServiceImpl implements MatchService {
     private final UserStatsRepository userStatsRepository;
     private final MatchNotificationService matchNotificationService;
     private final AuthenticationUserRepository userRepository;
-    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProblemService problemService;
+    private final UsernameService usernameService;
     private final DuelRepository duelRepository;
 
     public static final long PENALTY_MINUTES = 5;
@@ -66,13 +72,6 @@ public class MatchServiceImpl implements MatchService {
             MatchStatus.EXPIRED
     );
 
-    private String getUsernameFromEmail(String email) {
-        if (email == null || !email.contains("@")) {
-            return "anonymous";
-        }
-        return email.substring(0, email.indexOf("@"));
-    }
-
     @Override
     public CreateDuelResponse createDuel(CreateDuelRequest request, Long creatorId) {
         if (request.getDifficultyMin() > request.getDifficultyMax()) {
@@ -110,6 +109,7 @@ public class MatchServiceImpl implements MatchService {
         Instant scheduledTime = Instant.now().plus(match.getStartDelayInMinutes(), ChronoUnit.MINUTES);
         match.setScheduledAt(scheduledTime);
         Match savedMatch = matchRepository.save(match);
+        eventPublisher.publishEvent(new MatchScheduledEvent(this, savedMatch.getId(), savedMatch.getPlayerOneId(), joiningUserId));
 
         matchNotificationService.notifyPlayerJoined(savedMatch.getId(), joiningUserId);
 
@@ -133,30 +133,19 @@ public class MatchServiceImpl implements MatchService {
         LiveMatchStateDTO liveState = liveMatchStateRepository.findById(matchId)
                 .orElseThrow(() -> new ResourceNotFoundException("Active match not found in cache for match ID: " + matchId));
 
-        Problem problemEntity = problemRepository.findById(liveState.getProblemId())
-                .orElseThrow(() -> new ResourceNotFoundException("Problem not found for ID: " + liveState.getProblemId()));
-
-        ProblemDetailResponse problemDTO = ProblemDetailResponse.fromEntity(problemEntity);
-
-        List<Long> userIds = new ArrayList<>();
-        if (liveState.getPlayerOneId() != null) userIds.add(liveState.getPlayerOneId());
-        if (liveState.getPlayerTwoId() != null) userIds.add(liveState.getPlayerTwoId());
-
-        Map<Long, String> usernameMap = userRepository.findByIdIn(userIds).stream()
-                .collect(Collectors.toMap(
-                        AuthenticationUser::getId,
-                        user -> getUsernameFromEmail(user.getEmail())
-                ));
+        // Both lookups are cached and warmed by MatchPrefetcher when the match starts.
+        ProblemDetailResponse problemDTO = problemService.getProblemById(liveState.getProblemId());
 
         return DuelStateResponseDTO.builder()
                 .liveState(liveState)
                 .problemDetails(problemDTO)
-                .playerOneUsername(usernameMap.get(liveState.getPlayerOneId()))
-                .playerTwoUsername(usernameMap.get(liveState.getPlayerTwoId()))
+                .playerOneUsername(liveState.getPlayerOneId() != null ? usernameService.getUsername(liveState.getPlayerOneId()) : null)
+                .playerTwoUsername(liveState.getPlayerTwoId() != null ? usernameService.getUsername(liveState.getPlayerTwoId()) : null)
                 .build();
     }
 
     @Override
+    @Transactional
     public void processDuelSubmissionResult(UUID matchId, Long userId, SubmissionStatus submissionStatus) {
         String logPrefix = String.format("[SUBMISSION_PROCESS matchId=%s userId=%d]", matchId, userId);
         log.info("{} Received submission result with status: {}", logPrefix, submissionStatus);
@@ -212,6 +201,7 @@ public class MatchServiceImpl implements MatchService {
             matchNotificationService.notifyMatchEnd(matchId, results);
             matchRepository.save(match);
             updateUserStatsForDraw(match.getPlayerOneId(), match.getPlayerTwoId());
+            eventPublisher.publishEvent(new MatchEndedEvent(this, matchId, MatchStatus.COMPLETED, match.getPlayerOneId(), match.getPlayerTwoId()));
             return;
         }
 
@@ -239,6 +229,7 @@ public class MatchServiceImpl implements MatchService {
         log.info("{} Match entity updated to COMPLETED in database with final results.", logPrefix);
         updateUserStats(p1Id, p2Id, winnerId, isDraw);
         log.info("{} User stats updated for both players.", logPrefix);
+        eventPublisher.publishEvent(new MatchEndedEvent(this, matchId, MatchStatus.COMPLETED, p1Id, p2Id));
 
         MatchResultDTO results = this.buildMatchResults(match);
 
@@ -271,13 +262,6 @@ public class MatchServiceImpl implements MatchService {
             }
         }
         userStatsRepository.saveAll(Arrays.asList(p1Stats, p2Stats));
-
-        List<AuthenticationUser> users = userRepository.findAllById(Arrays.asList(p1Id, p2Id));
-        for (AuthenticationUser user : users) {
-            String username = getUsernameFromEmail(user.getEmail());
-            log.info("Evicting profile from cache for username: {}", username);
-            Objects.requireNonNull(cacheManager.getCache("userProfiles")).evict(username);
-        }
     }
 
     private void updateUserStatsForDraw(Long p1Id, Long p2Id) {
@@ -309,7 +293,7 @@ public class MatchServiceImpl implements MatchService {
             outcome = "DRAW";
         } else {
             winnerUsername = userRepository.findById(winnerId)
-                    .map(user -> this.getUsernameFromEmail(user.getEmail()))
+                    .map(AuthenticationUser::resolveUsername)
                     .orElse("Unknown Player");
 
             if (winnerId.equals(match.getPlayerOneId())) {
@@ -380,7 +364,7 @@ public class MatchServiceImpl implements MatchService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "matchHistory", key = "#userId + '-' + #result + '-' + #pageable.pageNumber")
+    @Cacheable(value = "matchHistory", key = "#userId + '-' + #result + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
     public PageDto<PastMatchDto> getPastMatchesForUser(Long userId, String result, Pageable pageable) {
 
         List<Match> standardMatches;
@@ -449,7 +433,7 @@ public class MatchServiceImpl implements MatchService {
         Map<Long, String> usernameMap = userRepository.findByIdIn(userIds).stream()
                 .collect(Collectors.toMap(
                         AuthenticationUser::getId,
-                        user -> getUsernameFromEmail(user.getEmail())
+                        AuthenticationUser::resolveUsername
                 ));
 
         return new LobbyStateDTO(
@@ -473,7 +457,7 @@ public class MatchServiceImpl implements MatchService {
         String opponentUsername = "Unknown";
         if (opponentId != null) {
             opponentUsername = userRepository.findById(opponentId)
-                    .map(user -> getUsernameFromEmail(user.getEmail()))
+                    .map(AuthenticationUser::resolveUsername)
                     .orElse("Unknown");
         }
 
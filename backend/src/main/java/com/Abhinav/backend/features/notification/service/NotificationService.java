@@ -1,10 +1,13 @@
 package com.Abhinav.backend.features.notification.service;
 
 
+import com.Abhinav.backend.features.submission.dto.SubmissionProgressDTO;
 import com.Abhinav.backend.features.submission.dto.SubmissionResultDTO;
 
 import java.util.UUID;
 
 public interface NotificationService {
     void notifyUser(Long userId, UUID submissionId, SubmissionResultDTO result);
+
+    void notifyProgress(UUID submissionId, SubmissionProgressDTO progress);
 }
\ No newline at end of file
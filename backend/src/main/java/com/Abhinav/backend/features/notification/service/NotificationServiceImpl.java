@@ -1,6 +1,7 @@
 package com.Abhinav.backend.features.notification.service;
 
 
+import com.Abhinav.backend.features.submission.dto.SubmissionProgressDTO;
 import com.Abhinav.backend.features.submission.dto.SubmissionResultDTO;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -31,4 +32,16 @@ public class NotificationServiceImpl implements NotificationService {
             logger.error("{} Failed to send WebSocket notification.", logPrefix, e);
         }
     }
+
+    @Override
+    public void notifyProgress(UUID submissionId, SubmissionProgressDTO progress) {
+        // A separate destination, so subscribers of the result topic still only ever receive the final verdict.
+        final String destination = "/topic/submission-result/" + submissionId + "/progress";
+        try {
+            messagingTemplate.convertAndSend(destination, progress);
+            logger.debug("[WS_PROGRESS submissionId={}] {}/{} test cases finished.", submissionId, progress.getCompletedTests(), progress.getTotalTests());
+        } catch (Exception e) {
+            logger.warn("[WS_PROGRESS submissionId={}] Failed to send progress update: {}", submissionId, e.getMessage());
+        }
+    }
 }
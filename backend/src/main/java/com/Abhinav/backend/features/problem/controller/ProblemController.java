@@ -2,13 +2,16 @@ package com.Abhinav.backend.features.problem.controller;
 
 import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
 import com.Abhinav.backend.features.problem.dto.*;
+import com.Abhinav.backend.features.problem.search.ProblemSearchQuery;
 import com.Abhinav.backend.features.problem.service.ProblemService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -54,9 +57,23 @@ public class ProblemController {
 
 
     @GetMapping("/{slug}")
-    public ResponseEntity<ProblemDetailResponse> getProblemBySlug(@PathVariable String slug) {
-        ProblemDetailResponse problemDto = problemService.getProblemBySlug(slug);
-        return ResponseEntity.ok(problemDto);
+    public ResponseEntity<byte[]> getProblemBySlug(@PathVariable String slug) {
+        RenderedProblemDetail detail = problemService.renderProblemBySlug(slug);
+        // With the validators set, Spring answers a matching If-None-Match / If-Modified-Since with a 304.
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(detail.getEtag());
+        if (detail.getLastModified() != null) {
+            response.lastModified(detail.getLastModified());
+        }
+        return response.body(detail.getBody());
+    }
+
+
+    @GetMapping("/{slug}/statement")
+    public ResponseEntity<ProblemStatementPointer> getStatementPointer(@PathVariable String slug) {
+        return ResponseEntity.ok(problemService.getStatementPointer(slug));
     }
 
 
@@ -64,12 +81,28 @@ public class ProblemController {
     public ResponseEntity<PaginatedProblemResponse> getAllProblems(
             @PageableDefault(size = 50, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @RequestParam(required = false) List<String> tags,
-            @RequestParam(defaultValue = "AND") String tagOperator) {
-        PaginatedProblemResponse response = problemService.getAllProblems(pageable, tags, tagOperator);
+            @RequestParam(defaultValue = "AND") String tagOperator,
+            @RequestParam(required = false) String cursor) {
+        PaginatedProblemResponse response = cursor != null
+                ? problemService.getProblemsAfter(cursor, pageable.getPageSize(), tags, tagOperator)
+                : problemService.getAllProblems(pageable, tags, tagOperator);
         return ResponseEntity.ok(response);
     }
 
 
+    @GetMapping("/search")
+    public ResponseEntity<PaginatedProblemResponse> searchProblems(
+            @PageableDefault(size = 50) Pageable pageable,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(defaultValue = "AND") String tagOperator,
+            @RequestParam(required = false) Integer minPoints,
+            @RequestParam(required = false) Integer maxPoints) {
+        ProblemSearchQuery query = new ProblemSearchQuery(q, tags, tagOperator, minPoints, maxPoints);
+        return ResponseEntity.ok(problemService.searchProblems(query, pageable));
+    }
+
+
     @GetMapping("/count")
     public ResponseEntity<ProblemCountResponse> getProblemCount() {
         ProblemCountResponse countResponse = problemService.getTotalProblemCount();
@@ -13,4 +13,6 @@ public class PaginatedProblemResponse {
     private int currentPage;
     private int totalPages;
     private long totalItems;
+    /** Pass back as {@code cursor} to fetch the next page by keyset; {@code null} on the last page. */
+    private String nextCursor;
 }
\ No newline at end of file
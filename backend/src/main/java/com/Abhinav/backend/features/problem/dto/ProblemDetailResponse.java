@@ -4,8 +4,11 @@ import com.Abhinav.backend.features.problem.model.Problem;
 import com.Abhinav.backend.features.problem.model.ProblemStatus;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.Instant;
 import java.util.List;
@@ -13,8 +16,12 @@ import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ProblemDetailResponse {
 
+    private static final ObjectReader SAMPLE_TEST_CASES_READER = new ObjectMapper().readerFor(List.class);
+
     private UUID id;
     private ProblemStatus status;
     private String slug;
@@ -33,7 +40,7 @@ public class ProblemDetailResponse {
         Object parsedSampleTestCases = null;
         if (problem.getSampleTestCases() != null) {
             try {
-                parsedSampleTestCases = new ObjectMapper().readValue(problem.getSampleTestCases(), List.class);
+                parsedSampleTestCases = SAMPLE_TEST_CASES_READER.readValue(problem.getSampleTestCases());
             } catch (JsonProcessingException e) {
                 parsedSampleTestCases = problem.getSampleTestCases();
             }
@@ -0,0 +1,23 @@
+package com.Abhinav.backend.features.problem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Where to fetch a problem's statement from the CDN. {@code statementUrl} is null when the
+ * statement has not been published, in which case clients fall back to {@code GET /api/problems/{slug}}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProblemStatementPointer {
+
+    private UUID problemId;
+    private String slug;
+    private String statementUrl;
+}
@@ -2,6 +2,7 @@ package com.Abhinav.backend.features.problem.dto;
 
 import com.Abhinav.backend.features.problem.model.Problem;
 import com.Abhinav.backend.features.problem.model.ProblemStatus;
+import com.Abhinav.backend.features.problem.repository.ProblemSummaryView;
 import lombok.Builder;
 import lombok.Data;
 
@@ -26,4 +27,14 @@ public class ProblemSummaryResponse {
                 .status(problem.getStatus())
                 .build();
     }
+
+    public static ProblemSummaryResponse fromView(ProblemSummaryView view) {
+        return ProblemSummaryResponse.builder()
+                .id(view.id())
+                .slug(view.slug())
+                .title(view.title())
+                .points(view.points())
+                .status(view.status())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.Abhinav.backend.features.problem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A problem detail response already serialized to JSON, with the validators for conditional GETs.
+ * The ETag changes with every edit of the problem.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RenderedProblemDetail {
+
+    private byte[] body;
+    private String etag;
+    private Instant lastModified;
+}
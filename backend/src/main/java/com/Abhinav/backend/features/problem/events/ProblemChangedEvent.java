@@ -0,0 +1,28 @@
+package com.Abhinav.backend.features.problem.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+
+/**
+ * Published whenever a problem is created, edited, finalized or deleted, so read models built
+ * from the catalog can refresh that one problem.
+ */
+@Getter
+public class ProblemChangedEvent extends ApplicationEvent {
+    private final UUID problemId;
+    /** Every slug the problem was reachable under before or after the change. */
+    private final List<String> slugs;
+
+    public ProblemChangedEvent(Object source, UUID problemId, String... slugs) {
+        super(source);
+        this.problemId = problemId;
+        this.slugs = Arrays.stream(slugs).filter(Objects::nonNull).distinct().toList();
+    }
+
+}
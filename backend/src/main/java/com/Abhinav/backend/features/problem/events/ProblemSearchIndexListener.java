@@ -0,0 +1,26 @@
+package com.Abhinav.backend.features.problem.events;
+
+import com.Abhinav.backend.features.problem.search.ProblemSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ProblemSearchIndexListener {
+
+    private final ProblemSearchIndex problemSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        problemSearchIndex.rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProblemChanged(ProblemChangedEvent event) {
+        problemSearchIndex.refresh(event.getProblemId());
+    }
+}
@@ -19,7 +19,7 @@ import java.util.*;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "problems")
+@Table(name = "problems", indexes = @Index(name = "idx_problems_created_at_id", columnList = "created_at, id"))
 public class Problem {
 
     @Id
@@ -61,6 +61,10 @@ public class Problem {
     @Column(name = "hidden_test_cases_s3_key")
     private String hiddenTestCasesS3Key;
 
+    /** Key of the content-hashed statement JSON published for the CDN; null until published. */
+    @Column(name = "statement_key")
+    private String statementKey;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
@@ -74,7 +78,8 @@ public class Problem {
     @JoinTable(
             name = "problem_tags",
             joinColumns = @JoinColumn(name = "problem_id"),
-            inverseJoinColumns = @JoinColumn(name = "tag_id")
+            inverseJoinColumns = @JoinColumn(name = "tag_id"),
+            indexes = @Index(name = "idx_problem_tags_tag_id", columnList = "tag_id, problem_id")
     )
     @Builder.Default
     private Set<Tag> tags = new HashSet<>();
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 @Getter
@@ -13,7 +14,7 @@ import java.util.Set;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tags")
+@Table(name = "tags", indexes = @Index(name = "idx_tags_name_key", columnList = "name_key"))
 public class Tag {
 
     @Id
@@ -23,7 +24,22 @@ public class Tag {
     @Column(nullable = false, unique = true)
     private String name;
 
+    /** Lowercased {@link #name}, so case-insensitive tag filters can use an index instead of {@code LOWER(name)}. */
+    @Column(name = "name_key")
+    private String nameKey;
+
     @ManyToMany(mappedBy = "tags")
     @Builder.Default
     private Set<Problem> problems = new HashSet<>();
+
+
+    public static String keyOf(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void syncNameKey() {
+        this.nameKey = keyOf(name);
+    }
 }
\ No newline at end of file
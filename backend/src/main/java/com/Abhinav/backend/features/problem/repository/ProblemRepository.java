@@ -2,6 +2,7 @@ package com.Abhinav.backend.features.problem.repository;
 
 import com.Abhinav.backend.features.problem.model.Problem;
 import com.Abhinav.backend.features.problem.model.ProblemStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,25 +21,75 @@ public interface ProblemRepository extends JpaRepository<Problem, UUID> {
     Optional<Problem> findBySlug(String slug);
 
 
-    @Query("SELECT DISTINCT p FROM Problem p JOIN p.tags t " +
-            "WHERE LOWER(t.name) IN :tagNames")
-    Page<Problem> findByAnyTagName(
-            @Param("tagNames") List<String> tagNames,
+    @Query("SELECT DISTINCT p FROM Problem p LEFT JOIN FETCH p.tags")
+    List<Problem> findAllWithTags();
+
+
+    @Query("SELECT p FROM Problem p LEFT JOIN FETCH p.tags WHERE p.id = :id")
+    Optional<Problem> findWithTagsById(@Param("id") UUID id);
+
+
+    String SUMMARY_SELECT = "SELECT new com.Abhinav.backend.features.problem.repository.ProblemSummaryView(" +
+            "p.id, p.slug, p.title, p.points, p.status, p.createdAt) FROM Problem p ";
+
+    String ANY_TAG_FILTER = "EXISTS (SELECT 1 FROM p.tags t WHERE t.nameKey IN :tagKeys) ";
+
+    String ALL_TAGS_FILTER = "(SELECT COUNT(DISTINCT t.nameKey) FROM p.tags t WHERE t.nameKey IN :tagKeys) = :tagCount ";
+
+    String AFTER_CURSOR = "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) ";
+
+    String NEWEST_FIRST = "ORDER BY p.createdAt DESC, p.id DESC";
+
+
+    @Query(value = SUMMARY_SELECT,
+            countQuery = "SELECT COUNT(p) FROM Problem p")
+    Page<ProblemSummaryView> findSummaries(Pageable pageable);
+
+
+    @Query(value = SUMMARY_SELECT + "WHERE " + ANY_TAG_FILTER,
+            countQuery = "SELECT COUNT(p) FROM Problem p WHERE " + ANY_TAG_FILTER)
+    Page<ProblemSummaryView> findSummariesByAnyTag(
+            @Param("tagKeys") List<String> tagKeys,
             Pageable pageable
     );
 
 
-    @Query("SELECT p FROM Problem p JOIN p.tags t " +
-            "WHERE LOWER(t.name) IN :tagNames " +
-            "GROUP BY p " +
-            "HAVING COUNT(DISTINCT LOWER(t.name)) = :tagCount")
-    Page<Problem> findByAllTagNames(
-            @Param("tagNames") List<String> tagNames,
+    @Query(value = SUMMARY_SELECT + "WHERE " + ALL_TAGS_FILTER,
+            countQuery = "SELECT COUNT(p) FROM Problem p WHERE " + ALL_TAGS_FILTER)
+    Page<ProblemSummaryView> findSummariesByAllTags(
+            @Param("tagKeys") List<String> tagKeys,
             @Param("tagCount") Long tagCount,
             Pageable pageable
     );
 
 
+    @Query(SUMMARY_SELECT + "WHERE " + AFTER_CURSOR + NEWEST_FIRST)
+    List<ProblemSummaryView> findSummariesAfter(
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+
+    @Query(SUMMARY_SELECT + "WHERE " + ANY_TAG_FILTER + "AND " + AFTER_CURSOR + NEWEST_FIRST)
+    List<ProblemSummaryView> findSummariesByAnyTagAfter(
+            @Param("tagKeys") List<String> tagKeys,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+
+    @Query(SUMMARY_SELECT + "WHERE " + ALL_TAGS_FILTER + "AND " + AFTER_CURSOR + NEWEST_FIRST)
+    List<ProblemSummaryView> findSummariesByAllTagsAfter(
+            @Param("tagKeys") List<String> tagKeys,
+            @Param("tagCount") Long tagCount,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+
     @Query(
             value = """
             SELECT p.id FROM problems p
@@ -69,4 +121,7 @@ public interface ProblemRepository extends JpaRepository<Problem, UUID> {
 
 
     long countByStatus(ProblemStatus status);
+
+
+    List<Problem> findByStatusAndStatementKeyIsNull(ProblemStatus status);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.Abhinav.backend.features.problem.repository;
+
+import com.Abhinav.backend.features.problem.model.ProblemStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The columns the problem catalog needs, selected directly so listing pages never loads the
+ * problem text or sample test cases.
+ */
+public record ProblemSummaryView(UUID id, String slug, String title, Integer points, ProblemStatus status, Instant createdAt) {
+}
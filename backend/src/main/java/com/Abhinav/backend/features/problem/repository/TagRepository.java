@@ -12,4 +12,5 @@ import java.util.List;
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
     Set<Tag> findByNameIn(List<String> names);
+    Optional<Tag> findFirstByNameKeyOrderByIdAsc(String nameKey);
 }
\ No newline at end of file
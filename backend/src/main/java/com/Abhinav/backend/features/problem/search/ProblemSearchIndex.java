@@ -0,0 +1,224 @@
+package com.Abhinav.backend.features.problem.search;
+
+import com.Abhinav.backend.features.problem.dto.PaginatedProblemResponse;
+import com.Abhinav.backend.features.problem.dto.ProblemSummaryResponse;
+import com.Abhinav.backend.features.problem.model.Problem;
+import com.Abhinav.backend.features.problem.model.Tag;
+import com.Abhinav.backend.features.problem.repository.ProblemRepository;
+import com.Abhinav.backend.features.problem.repository.ProblemSummaryView;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index over the problem catalog, so catalog search never touches Postgres.
+ * <p>
+ * Each problem gets a dense slot number. Title/slug words, tag keys and point values each map to a
+ * {@link BitSet} of slots, so tag AND/OR filters, word-prefix matches and points ranges are bitmap
+ * intersections and unions. The catalog is capped at a few hundred problems, so plain bitsets over
+ * dense slots stay small without a compressed bitmap library.
+ * <p>
+ * Built at startup, refreshed per problem from {@code ProblemChangedEvent}s, and fully rebuilt on
+ * a schedule to pick up edits made through other instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProblemSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProblemSearchIndex.class);
+
+    private static final Comparator<ProblemSummaryView> NEWEST_FIRST =
+            Comparator.comparing(ProblemSummaryView::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(ProblemSummaryView::id, Comparator.reverseOrder());
+
+    private final ProblemRepository problemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<IndexedProblem> slots = new ArrayList<>();
+    private final Map<UUID, Integer> slotById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private final TreeMap<String, BitSet> words = new TreeMap<>();
+    private final Map<String, BitSet> tags = new HashMap<>();
+    private final TreeMap<Integer, BitSet> points = new TreeMap<>();
+
+
+    @Scheduled(fixedDelayString = "${problem.search.resync-interval:PT10M}", initialDelayString = "${problem.search.resync-interval:PT10M}")
+    public void rebuild() {
+        List<Problem> problems = problemRepository.findAllWithTags();
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            slotById.clear();
+            freeSlots.clear();
+            live.clear();
+            words.clear();
+            tags.clear();
+            points.clear();
+            problems.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("[PROBLEM_SEARCH] Indexed {} problems.", problems.size());
+    }
+
+
+    public void refresh(UUID problemId) {
+        Optional<Problem> problem = problemRepository.findWithTagsById(problemId);
+        lock.writeLock().lock();
+        try {
+            remove(problemId);
+            problem.ifPresent(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.debug("[PROBLEM_SEARCH] Refreshed problem {} (present: {}).", problemId, problem.isPresent());
+    }
+
+
+    /**
+     * Runs the query against the index and returns the requested page, newest problems first.
+     */
+    public PaginatedProblemResponse search(ProblemSearchQuery query, Pageable pageable) {
+        List<ProblemSummaryView> matches;
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) live.clone();
+            matchWords(result, query.text());
+            matchTags(result, query.tags(), query.tagOperator());
+            matchPoints(result, query.minPoints(), query.maxPoints());
+
+            matches = new ArrayList<>(result.cardinality());
+            for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+                matches.add(slots.get(slot).view());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(NEWEST_FIRST);
+        int size = pageable.getPageSize();
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + size, matches.size());
+        return PaginatedProblemResponse.builder()
+                .problems(matches.subList(from, to).stream().map(ProblemSummaryResponse::fromView).collect(Collectors.toList()))
+                .currentPage(pageable.getPageNumber())
+                .totalPages((matches.size() + size - 1) / size)
+                .totalItems(matches.size())
+                .build();
+    }
+
+
+    private void matchWords(BitSet result, String text) {
+        if (text == null) {
+            return;
+        }
+        for (String prefix : tokenize(text)) {
+            BitSet anyWithPrefix = new BitSet();
+            words.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values().forEach(anyWithPrefix::or);
+            result.and(anyWithPrefix);
+        }
+    }
+
+    private void matchTags(BitSet result, List<String> tagNames, String tagOperator) {
+        if (tagNames == null) {
+            return;
+        }
+        Set<String> keys = tagNames.stream().filter(tag -> !tag.isBlank()).map(Tag::keyOf).collect(Collectors.toSet());
+        if (keys.isEmpty()) {
+            return;
+        }
+        if ("OR".equalsIgnoreCase(tagOperator)) {
+            BitSet anyTag = new BitSet();
+            keys.forEach(key -> anyTag.or(tags.getOrDefault(key, new BitSet())));
+            result.and(anyTag);
+        } else {
+            keys.forEach(key -> result.and(tags.getOrDefault(key, new BitSet())));
+        }
+    }
+
+    private void matchPoints(BitSet result, Integer minPoints, Integer maxPoints) {
+        if (minPoints == null && maxPoints == null) {
+            return;
+        }
+        int from = minPoints != null ? minPoints : Integer.MIN_VALUE;
+        int to = maxPoints != null ? maxPoints : Integer.MAX_VALUE;
+        BitSet inRange = new BitSet();
+        if (from <= to) {
+            points.subMap(from, true, to, true).values().forEach(inRange::or);
+        }
+        result.and(inRange);
+    }
+
+
+    private void add(Problem problem) {
+        int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+        Set<String> wordKeys = new HashSet<>(tokenize(problem.getTitle()));
+        wordKeys.addAll(tokenize(problem.getSlug()));
+        Set<String> tagKeys = problem.getTags().stream().map(tag -> Tag.keyOf(tag.getName())).collect(Collectors.toSet());
+
+        IndexedProblem indexed = new IndexedProblem(
+                new ProblemSummaryView(problem.getId(), problem.getSlug(), problem.getTitle(), problem.getPoints(),
+                        problem.getStatus(), problem.getCreatedAt()),
+                wordKeys, tagKeys);
+        if (slot == slots.size()) {
+            slots.add(indexed);
+        } else {
+            slots.set(slot, indexed);
+        }
+        slotById.put(problem.getId(), slot);
+        live.set(slot);
+        wordKeys.forEach(word -> words.computeIfAbsent(word, k -> new BitSet()).set(slot));
+        tagKeys.forEach(tag -> tags.computeIfAbsent(tag, k -> new BitSet()).set(slot));
+        if (problem.getPoints() != null) {
+            points.computeIfAbsent(problem.getPoints(), k -> new BitSet()).set(slot);
+        }
+    }
+
+    private void remove(UUID problemId) {
+        Integer slot = slotById.remove(problemId);
+        if (slot == null) {
+            return;
+        }
+        IndexedProblem indexed = slots.set(slot, null);
+        live.clear(slot);
+        indexed.words().forEach(word -> clearSlot(words, word, slot));
+        indexed.tags().forEach(tag -> clearSlot(tags, tag, slot));
+        if (indexed.view().points() != null) {
+            clearSlot(points, indexed.view().points(), slot);
+        }
+        freeSlots.push(slot);
+    }
+
+    private static <K> void clearSlot(Map<K, BitSet> postings, K key, int slot) {
+        BitSet bits = postings.get(key);
+        if (bits == null) {
+            return;
+        }
+        bits.clear(slot);
+        if (bits.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+
+    private record IndexedProblem(ProblemSummaryView view, Set<String> words, Set<String> tags) {
+    }
+}
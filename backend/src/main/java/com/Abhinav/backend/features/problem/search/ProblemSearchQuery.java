@@ -0,0 +1,11 @@
+package com.Abhinav.backend.features.problem.search;
+
+import java.util.List;
+
+/**
+ * A catalog search. Every part is optional: {@code text} is matched as word prefixes against
+ * titles and slugs, {@code tags} are combined with {@code tagOperator} ("AND" or "OR"), and the
+ * points range is inclusive.
+ */
+public record ProblemSearchQuery(String text, List<String> tags, String tagOperator, Integer minPoints, Integer maxPoints) {
+}
@@ -2,6 +2,7 @@ package com.Abhinav.backend.features.problem.service;
 
 import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
 import com.Abhinav.backend.features.problem.dto.*;
+import com.Abhinav.backend.features.problem.search.ProblemSearchQuery;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
 import java.util.UUID;
@@ -20,9 +21,24 @@ public interface ProblemService {
     ProblemDetailResponse getProblemBySlug(String slug);
 
 
+    RenderedProblemDetail renderProblemBySlug(String slug);
+
+
+    ProblemStatementPointer getStatementPointer(String slug);
+
+
+    ProblemDetailResponse getProblemById(UUID problemId);
+
+
     PaginatedProblemResponse getAllProblems(Pageable pageable, List<String> tags, String tagOperator);
 
 
+    PaginatedProblemResponse getProblemsAfter(String cursor, int size, List<String> tags, String tagOperator);
+
+
+    PaginatedProblemResponse searchProblems(ProblemSearchQuery query, Pageable pageable);
+
+
     ProblemDetailResponse updateProblem(UUID problemId, ProblemUpdateRequest requestDto, AuthenticationUser author);
 
 
@@ -5,30 +5,43 @@ import com.Abhinav.backend.features.admin.model.PermissionType;
 import com.Abhinav.backend.features.admin.model.TemporaryPermission;
 import com.Abhinav.backend.features.admin.repository.TemporaryPermissionRepository;
 import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
+import com.Abhinav.backend.features.authentication.service.ProfileAggregateService;
 import com.Abhinav.backend.features.exception.AuthorizationException;
 import com.Abhinav.backend.features.exception.InvalidRequestException;
 import com.Abhinav.backend.features.exception.ResourceConflictException;
 import com.Abhinav.backend.features.exception.ResourceNotFoundException;
 import com.Abhinav.backend.features.exception.ServiceUnavailableException;
 import com.Abhinav.backend.features.problem.dto.*;
+import com.Abhinav.backend.features.problem.events.ProblemChangedEvent;
 import com.Abhinav.backend.features.problem.model.Problem;
 import com.Abhinav.backend.features.problem.model.ProblemStatus;
 import com.Abhinav.backend.features.problem.model.Tag;
 import com.Abhinav.backend.features.problem.repository.ProblemRepository;
+import com.Abhinav.backend.features.problem.repository.ProblemSummaryView;
 import com.Abhinav.backend.features.problem.repository.TagRepository;
+import com.Abhinav.backend.features.problem.search.ProblemSearchIndex;
+import com.Abhinav.backend.features.problem.search.ProblemSearchQuery;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -47,6 +60,10 @@ public class ProblemServiceImpl implements ProblemService {
     private final TagRepository tagRepository;
     private final ProblemRepository problemRepository;
     private final TemporaryPermissionRepository permissionRepository;
+    private final ProblemSearchIndex problemSearchIndex;
+    private final ProblemStatementPublisher statementPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProfileAggregateService profileAggregateService;
     private static final Logger logger = LoggerFactory.getLogger(ProblemServiceImpl.class);
     private final RedisTemplate<String, String> redisTemplate;
 
@@ -84,9 +101,7 @@ public class ProblemServiceImpl implements ProblemService {
 
         Set<Tag> problemTags = new HashSet<>();
         for (String tagName : requestDto.getTags()) {
-            Tag tag = tagRepository.findByName(tagName)
-                    .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()));
-            problemTags.add(tag);
+            problemTags.add(findOrCreateTag(tagName));
         }
 
         Problem problem = new Problem();
@@ -109,6 +124,7 @@ public class ProblemServiceImpl implements ProblemService {
 
         Problem savedProblem = problemRepository.save(problem);
         UUID problemId = savedProblem.getId();
+        eventPublisher.publishEvent(new ProblemChangedEvent(this, problemId, savedProblem.getSlug()));
         String uploadUrl;
 
         try {
@@ -132,6 +148,7 @@ public class ProblemServiceImpl implements ProblemService {
 
     @Override
     @Transactional
+    @CacheEvict(value = "problemDetails", key = "#problemId")
     public void finalizeProblem(UUID problemId, String providedSecret) {
         if (lambdaInternalSecret == null || !lambdaInternalSecret.equals(providedSecret)) {
             logger.warn("Unauthorized attempt to finalize problem {}. Invalid secret provided.", problemId);
@@ -164,7 +181,9 @@ public class ProblemServiceImpl implements ProblemService {
         }
 
         problem.setStatus(ProblemStatus.PUBLISHED);
+        publishStatement(problem);
         problemRepository.save(problem);
+        eventPublisher.publishEvent(new ProblemChangedEvent(this, problemId, problem.getSlug()));
 
         String redisKey = PENDING_PROBLEM_KEY_PREFIX + problemId;
         Boolean deleted = redisTemplate.delete(redisKey);
@@ -190,6 +209,7 @@ public class ProblemServiceImpl implements ProblemService {
             }
 
             problemRepository.delete(problem);
+            eventPublisher.publishEvent(new ProblemChangedEvent(this, problemId, problem.getSlug()));
             logger.warn("Successfully deleted expired problem record for ID: {}", problemId);
         } else {
             logger.info("Cleanup for problem {} skipped. Problem not found or was already finalized.", problemId);
@@ -198,6 +218,7 @@ public class ProblemServiceImpl implements ProblemService {
 
     @Override
     @Transactional
+    @CacheEvict(value = "problemDetails", key = "#problemId")
     public void deleteProblem(UUID problemId, AuthenticationUser author) {
         boolean isAdmin = author.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
@@ -217,40 +238,141 @@ public class ProblemServiceImpl implements ProblemService {
         }
 
         String s3Key = problem.getHiddenTestCasesS3Key();
+        String statementKey = problem.getStatementKey();
         UUID id = problem.getId();
 
         problemRepository.delete(problem);
+        eventPublisher.publishEvent(new ProblemChangedEvent(this, id, problem.getSlug()));
 
         if (s3Key != null && !s3Key.isBlank()) {
             s3Service.deleteObject(s3Key, id);
         }
+        if (statementKey != null && statementPublisher.isEnabled()) {
+            try {
+                statementPublisher.unpublish(statementKey);
+            } catch (Exception e) {
+                logger.error("Failed to remove published statement '{}' for deleted problem {}.", statementKey, id, e);
+            }
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public PaginatedProblemResponse getAllProblems(Pageable pageable, List<String> tags, String tagOperator) {
-        Page<Problem> problemPage;
-        if (tags == null || tags.isEmpty()) {
-            problemPage = problemRepository.findAll(pageable);
+        List<String> tagKeys = toTagKeys(tags);
+        Page<ProblemSummaryView> problemPage;
+        if (tagKeys.isEmpty()) {
+            problemPage = problemRepository.findSummaries(pageable);
+        } else if ("OR".equalsIgnoreCase(tagOperator)) {
+            problemPage = problemRepository.findSummariesByAnyTag(tagKeys, pageable);
         } else {
-            List<String> lowerCaseTags = tags.stream().map(String::toLowerCase).collect(Collectors.toList());
-            if ("OR".equalsIgnoreCase(tagOperator)) {
-                problemPage = problemRepository.findByAnyTagName(lowerCaseTags, pageable);
-            } else {
-                problemPage = problemRepository.findByAllTagNames(lowerCaseTags, (long) lowerCaseTags.size(), pageable);
-            }
+            problemPage = problemRepository.findSummariesByAllTags(tagKeys, (long) tagKeys.size(), pageable);
         }
-        List<ProblemSummaryResponse> problemSummaries = problemPage.getContent().stream()
-                .map(ProblemSummaryResponse::fromEntity)
-                .collect(Collectors.toList());
         return PaginatedProblemResponse.builder()
-                .problems(problemSummaries)
+                .problems(problemPage.getContent().stream().map(ProblemSummaryResponse::fromView).collect(Collectors.toList()))
                 .currentPage(problemPage.getNumber())
                 .totalPages(problemPage.getTotalPages())
                 .totalItems(problemPage.getTotalElements())
+                .nextCursor(problemPage.hasNext() && isNewestFirst(pageable.getSort()) ? nextCursor(problemPage.getContent()) : null)
                 .build();
     }
 
+    /**
+     * Keyset variant of {@link #getAllProblems}: newest first, continuing strictly after the row the
+     * cursor points at. Unlike an OFFSET, the cost does not grow with how deep the caller pages, and
+     * no count query is run.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedProblemResponse getProblemsAfter(String cursor, int size, List<String> tags, String tagOperator) {
+        List<String> tagKeys = toTagKeys(tags);
+        CatalogCursor after = CatalogCursor.decode(cursor);
+        // One extra row tells us whether there is a next page.
+        Limit limit = Limit.of(size + 1);
+        List<ProblemSummaryView> rows;
+        if (tagKeys.isEmpty()) {
+            rows = problemRepository.findSummariesAfter(after.createdAt(), after.id(), limit);
+        } else if ("OR".equalsIgnoreCase(tagOperator)) {
+            rows = problemRepository.findSummariesByAnyTagAfter(tagKeys, after.createdAt(), after.id(), limit);
+        } else {
+            rows = problemRepository.findSummariesByAllTagsAfter(tagKeys, (long) tagKeys.size(), after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<ProblemSummaryView> page = hasNext ? rows.subList(0, size) : rows;
+        return PaginatedProblemResponse.builder()
+                .problems(page.stream().map(ProblemSummaryResponse::fromView).collect(Collectors.toList()))
+                .nextCursor(hasNext ? nextCursor(page) : null)
+                .build();
+    }
+
+    @Override
+    public PaginatedProblemResponse searchProblems(ProblemSearchQuery query, Pageable pageable) {
+        return problemSearchIndex.search(query, pageable);
+    }
+
+    private List<String> toTagKeys(List<String> tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        return tags.stream().filter(tag -> !tag.isBlank()).map(Tag::keyOf).distinct().collect(Collectors.toList());
+    }
+
+    // A cursor only continues the listing correctly when the page was in keyset order.
+    private boolean isNewestFirst(Sort sort) {
+        Sort.Order order = sort.getOrderFor("createdAt");
+        return order != null && order.isDescending() && sort.stream().count() == 1;
+    }
+
+    private String nextCursor(List<ProblemSummaryView> page) {
+        if (page.isEmpty()) {
+            return null;
+        }
+        ProblemSummaryView last = page.get(page.size() - 1);
+        return new CatalogCursor(last.createdAt(), last.id()).encode();
+    }
+
+    // A failed upload clears the pointer, so clients fall back to the API instead of a stale statement.
+    private void publishStatement(Problem problem) {
+        if (!statementPublisher.isEnabled()) {
+            return;
+        }
+        try {
+            problem.setStatementKey(statementPublisher.publish(problem));
+        } catch (Exception e) {
+            logger.error("Failed to publish statement for problem {}. Serving it from the API only.", problem.getId(), e);
+            problem.setStatementKey(null);
+        }
+    }
+
+    private Tag findOrCreateTag(String tagName) {
+        return tagRepository.findFirstByNameKeyOrderByIdAsc(Tag.keyOf(tagName))
+                .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()));
+    }
+
+    private static Set<String> tagNames(Problem problem) {
+        return problem.getTags().stream().map(Tag::getName).collect(Collectors.toSet());
+    }
+
+
+    private record CatalogCursor(Instant createdAt, UUID id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static CatalogCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new CatalogCursor(Instant.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new InvalidRequestException("Invalid cursor.");
+            }
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ProblemDetailResponse getProblemBySlug(String slug) {
@@ -259,8 +381,52 @@ public class ProblemServiceImpl implements ProblemService {
         return ProblemDetailResponse.fromEntity(problem);
     }
 
+    /**
+     * Renders the detail page once per problem version. The cached bytes are written to the
+     * response as-is, and the ETag lets clients that already hold this version get a 304.
+     * Evicted by slug whenever the problem changes.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "problemDetailPages", key = "#slug", sync = true)
+    public RenderedProblemDetail renderProblemBySlug(String slug) {
+        Problem problem = problemRepository.findBySlug(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Problem with slug '" + slug + "' not found."));
+        Instant version = problem.getUpdatedAt() != null ? problem.getUpdatedAt() : problem.getCreatedAt();
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(ProblemDetailResponse.fromEntity(problem));
+            String etag = "\"" + problem.getId() + "-" + (version != null ? version.toEpochMilli() : 0) + "\"";
+            return new RenderedProblemDetail(body, etag, version);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Internal error: Failed to serialize problem " + problem.getId(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "problemStatementPointers", key = "#slug", sync = true)
+    public ProblemStatementPointer getStatementPointer(String slug) {
+        Problem problem = problemRepository.findBySlug(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Problem with slug '" + slug + "' not found."));
+        return ProblemStatementPointer.builder()
+                .problemId(problem.getId())
+                .slug(problem.getSlug())
+                .statementUrl(statementPublisher.urlFor(problem.getStatementKey()))
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "problemDetails", key = "#problemId", sync = true)
+    public ProblemDetailResponse getProblemById(UUID problemId) {
+        Problem problem = problemRepository.findById(problemId)
+                .orElseThrow(() -> new ResourceNotFoundException("Problem not found for ID: " + problemId));
+        return ProblemDetailResponse.fromEntity(problem);
+    }
+
     @Override
     @Transactional
+    @CacheEvict(value = "problemDetails", key = "#problemId")
     public ProblemDetailResponse updateProblem(UUID problemId, ProblemUpdateRequest requestDto, AuthenticationUser author) {
         boolean isAdmin = author.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
@@ -279,6 +445,8 @@ public class ProblemServiceImpl implements ProblemService {
             permissionRepository.save(permission);
         }
 
+        String previousSlug = problem.getSlug();
+        Set<String> previousTags = tagNames(problem);
         if (requestDto.getTitle() != null) problem.setTitle(requestDto.getTitle());
         if (requestDto.getSlug() != null) problem.setSlug(requestDto.getSlug());
         if (requestDto.getDescription() != null) problem.setDescription(requestDto.getDescription());
@@ -289,13 +457,21 @@ public class ProblemServiceImpl implements ProblemService {
         if (requestDto.getTags() != null && !requestDto.getTags().isEmpty()) {
             Set<Tag> updatedTags = new HashSet<>();
             for (String tagName : requestDto.getTags()) {
-                Tag tag = tagRepository.findByName(tagName)
-                        .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()));
-                updatedTags.add(tag);
+                updatedTags.add(findOrCreateTag(tagName));
             }
             problem.setTags(updatedTags);
         }
-        Problem updatedProblem = problemRepository.save(problem);
+        if (problem.getStatus() == ProblemStatus.PUBLISHED) {
+            publishStatement(problem);
+        }
+        Problem updatedProblem = problemRepository.saveAndFlush(problem);
+        Set<String> currentTags = tagNames(updatedProblem);
+        if (!currentTags.equals(previousTags)) {
+            Set<String> affectedTags = new HashSet<>(previousTags);
+            affectedTags.addAll(currentTags);
+            profileAggregateService.recountTags(problemId, affectedTags);
+        }
+        eventPublisher.publishEvent(new ProblemChangedEvent(this, problemId, previousSlug, updatedProblem.getSlug()));
         return ProblemDetailResponse.fromEntity(updatedProblem);
     }
 
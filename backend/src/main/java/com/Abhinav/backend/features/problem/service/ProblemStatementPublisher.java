@@ -0,0 +1,94 @@
+package com.Abhinav.backend.features.problem.service;
+
+import com.Abhinav.backend.features.AWS.service.S3Service;
+import com.Abhinav.backend.features.problem.dto.ProblemDetailResponse;
+import com.Abhinav.backend.features.problem.model.Problem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Publishes problem statements (description, constraints, samples) as static JSON to the bucket
+ * behind the CDN. Each object key embeds a hash of its content, so objects are immutable and can
+ * be cached forever; an edit produces a new key rather than overwriting the old one.
+ * <p>
+ * Disabled when {@code problem.statement.bucket-name} is not set.
+ */
+@Component
+public class ProblemStatementPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProblemStatementPublisher.class);
+
+    private static final String KEY_PREFIX = "problem-statements/";
+
+    private final S3Service s3Service;
+    private final ObjectMapper objectMapper;
+    private final String bucketName;
+    private final String publicBaseUrl;
+
+    public ProblemStatementPublisher(S3Service s3Service,
+                                     ObjectMapper objectMapper,
+                                     @Value("${problem.statement.bucket-name:}") String bucketName,
+                                     @Value("${problem.statement.public-base-url:}") String publicBaseUrl) {
+        this.s3Service = s3Service;
+        this.objectMapper = objectMapper;
+        this.bucketName = bucketName;
+        this.publicBaseUrl = publicBaseUrl.endsWith("/") ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1) : publicBaseUrl;
+    }
+
+
+    public boolean isEnabled() {
+        return !bucketName.isBlank();
+    }
+
+
+    /**
+     * Renders the problem and uploads it unless the same content is already published. Returns
+     * the object key to store on the problem.
+     */
+    public String publish(Problem problem) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ProblemDetailResponse.fromEntity(problem));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Internal error: Failed to serialize statement for problem " + problem.getId(), e);
+        }
+
+        String key = KEY_PREFIX + problem.getId() + "/" + contentHash(body) + ".json";
+        if (key.equals(problem.getStatementKey())) {
+            logger.debug("[STATEMENT_PUBLISH] Statement for problem {} unchanged at '{}'.", problem.getId(), key);
+            return key;
+        }
+
+        s3Service.putImmutableObject(bucketName, key, body, "application/json");
+        logger.info("[STATEMENT_PUBLISH] Published statement for problem {} at '{}'.", problem.getId(), key);
+        return key;
+    }
+
+
+    public void unpublish(String key) {
+        s3Service.deleteObjectFrom(bucketName, key);
+    }
+
+
+    public String urlFor(String key) {
+        return key == null || !isEnabled() ? null : publicBaseUrl + "/" + key;
+    }
+
+
+    private static String contentHash(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
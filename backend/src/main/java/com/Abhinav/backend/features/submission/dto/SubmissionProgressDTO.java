@@ -0,0 +1,20 @@
+package com.Abhinav.backend.features.submission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionProgressDTO {
+    private UUID submissionId;
+    private int completedTests;
+    private int passedTests;
+    private int totalTests;
+    private int maxRuntimeMs;
+}
@@ -1,5 +1,6 @@
 package com.Abhinav.backend.features.submission.events;
 
+import com.Abhinav.backend.features.submission.model.SubmissionLane;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 import java.util.UUID;
@@ -8,10 +9,14 @@ import java.util.UUID;
 @Getter
 public class SubmissionCreatedEvent extends ApplicationEvent {
     private final UUID submissionId;
+    private final Long userId;
+    private final SubmissionLane lane;
 
-    public SubmissionCreatedEvent(Object source, UUID submissionId) {
+    public SubmissionCreatedEvent(Object source, UUID submissionId, Long userId, SubmissionLane lane) {
         super(source);
         this.submissionId = submissionId;
+        this.userId = userId;
+        this.lane = lane;
     }
 
 }
\ No newline at end of file
@@ -1,34 +1,25 @@
 package com.Abhinav.backend.features.submission.events;
 
-import com.Abhinav.backend.features.AWS.service.SqsService;
+import com.Abhinav.backend.features.submission.service.SubmissionDispatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.UUID;
-
 @Component
 public class SubmissionEventListener {
 
-    private final SqsService sqsService;
+    private final SubmissionDispatcher submissionDispatcher;
     private static final Logger logger = LoggerFactory.getLogger(SubmissionEventListener.class);
 
-    public SubmissionEventListener(SqsService sqsService) {
-        this.sqsService = sqsService;
+    public SubmissionEventListener(SubmissionDispatcher submissionDispatcher) {
+        this.submissionDispatcher = submissionDispatcher;
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onSubmissionCreated(SubmissionCreatedEvent event) {
-        UUID submissionId = event.getSubmissionId();
-        String logPrefix = "[POST_COMMIT_SQS submissionId=" + submissionId + "]";
-        logger.info("{} Transaction committed. Now sending message to SQS.", logPrefix);
-        try {
-            sqsService.sendSubmissionMessage(submissionId);
-            logger.info("{} Message sent successfully.", logPrefix);
-        } catch (Exception e) {
-            logger.error("{} CRITICAL: Failed to send SQS message post-commit.", logPrefix, e);
-        }
+        logger.debug("[POST_COMMIT submissionId={}] Outbox row committed. Dispatching in lane {}.", event.getSubmissionId(), event.getLane());
+        submissionDispatcher.dispatch(event.getSubmissionId(), event.getLane());
     }
-}
\ No newline at end of file
+}
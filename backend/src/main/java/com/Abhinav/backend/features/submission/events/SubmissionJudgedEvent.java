@@ -0,0 +1,24 @@
+package com.Abhinav.backend.features.submission.events;
+
+import com.Abhinav.backend.features.submission.model.SubmissionStatus;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+import java.util.UUID;
+
+
+@Getter
+public class SubmissionJudgedEvent extends ApplicationEvent {
+    private final UUID submissionId;
+    private final Long userId;
+    private final SubmissionStatus status;
+    private final boolean firstSolve;
+
+    public SubmissionJudgedEvent(Object source, UUID submissionId, Long userId, SubmissionStatus status, boolean firstSolve) {
+        super(source);
+        this.submissionId = submissionId;
+        this.userId = userId;
+        this.status = status;
+        this.firstSolve = firstSolve;
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.Abhinav.backend.features.submission.model;
 
+import com.Abhinav.backend.core.persistence.UuidV7;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -20,7 +21,7 @@ import java.util.UUID;
 public class Submission {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "problem_id", nullable = false)
@@ -29,7 +30,8 @@ public class Submission {
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
+    /** Stored in {@link SubmissionBlob}; only populated where a caller loads it explicitly. */
+    @Transient
     private String code;
 
     @Enumerated(EnumType.STRING)
@@ -50,12 +52,17 @@ public class Submission {
     @Column(name = "memory_kb")
     private Integer memoryKb;
 
-    @Column(columnDefinition = "TEXT")
+    /** Stored in {@link SubmissionBlob}; only populated where a caller loads it explicitly. */
+    @Transient
     private String stdout;
 
-    @Column(columnDefinition = "TEXT")
+    /** Stored in {@link SubmissionBlob}; only populated where a caller loads it explicitly. */
+    @Transient
     private String stderr;
 
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
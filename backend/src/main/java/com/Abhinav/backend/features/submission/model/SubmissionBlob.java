@@ -0,0 +1,35 @@
+package com.Abhinav.backend.features.submission.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * The large text of a submission: its source code and the judge's stdout/stderr. Kept out of the
+ * {@code submissions} row so listings, heatmaps and match timelines never read it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "submission_blobs")
+public class SubmissionBlob {
+
+    @Id
+    @Column(name = "submission_id")
+    private UUID submissionId;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String code;
+
+    @Column(columnDefinition = "TEXT")
+    private String stdout;
+
+    @Column(columnDefinition = "TEXT")
+    private String stderr;
+}
@@ -0,0 +1,16 @@
+package com.Abhinav.backend.features.submission.model;
+
+import java.util.UUID;
+
+/**
+ * Judging lane of a submission. Duel submissions decide live matches and are always judged
+ * ahead of practice traffic.
+ */
+public enum SubmissionLane {
+    DUEL,
+    PRACTICE;
+
+    public static SubmissionLane of(UUID matchId) {
+        return matchId != null ? DUEL : PRACTICE;
+    }
+}
@@ -0,0 +1,49 @@
+package com.Abhinav.backend.features.submission.model;
+
+import com.Abhinav.backend.core.persistence.UuidV7;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A submission that still has to be handed to the judging queue. Rows are written in the same
+ * transaction as the submission and deleted by the relay once SQS has acknowledged them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "submission_outbox",
+        indexes = @Index(name = "idx_submission_outbox_next_attempt", columnList = "next_attempt_at"))
+public class SubmissionOutbox {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(name = "submission_id", nullable = false, unique = true)
+    private UUID submissionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "varchar(16) default 'PRACTICE'")
+    @Builder.Default
+    private SubmissionLane lane = SubmissionLane.PRACTICE;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+}
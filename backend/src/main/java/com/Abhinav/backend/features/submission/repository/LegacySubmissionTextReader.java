@@ -0,0 +1,71 @@
+package com.Abhinav.backend.features.submission.repository;
+
+import com.Abhinav.backend.features.submission.model.SubmissionBlob;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read access to the old inline {@code submissions.code/stdout/stderr} columns while text moves to
+ * {@code submission_blobs}. Rows written before the move, or by replicas still on the previous
+ * release, only have their text there, so readers fall back to it when no blob row exists.
+ * <p>
+ * The columns are made nullable while the context starts, before the web server and queue
+ * listeners accept work, because this release no longer writes them. They are dropped in a later
+ * release once every replica reads from {@code submission_blobs} and the backfill has finished.
+ */
+@Component
+@RequiredArgsConstructor
+public class LegacySubmissionTextReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacySubmissionTextReader.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean present;
+
+
+    @PostConstruct
+    void relaxLegacyColumns() {
+        Integer inlineColumns = jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM information_schema.columns
+            WHERE table_name = 'submissions' AND column_name = 'code'
+        """, Integer.class);
+        present = inlineColumns != null && inlineColumns > 0;
+        if (present) {
+            jdbcTemplate.execute("""
+                ALTER TABLE submissions
+                    ALTER COLUMN code DROP NOT NULL,
+                    ALTER COLUMN stdout DROP NOT NULL,
+                    ALTER COLUMN stderr DROP NOT NULL
+            """);
+            logger.info(">>> Legacy inline submission text columns found and made nullable.");
+        }
+    }
+
+
+    public boolean isPresent() {
+        return present;
+    }
+
+
+    public Optional<SubmissionBlob> find(UUID submissionId) {
+        if (!present) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query("SELECT code, stdout, stderr FROM submissions WHERE id = ? AND code IS NOT NULL",
+                (rs, rowNum) -> SubmissionBlob.builder()
+                        .submissionId(submissionId)
+                        .code(rs.getString("code"))
+                        .stdout(rs.getString("stdout"))
+                        .stderr(rs.getString("stderr"))
+                        .build(),
+                submissionId).stream().findFirst();
+    }
+}
@@ -0,0 +1,17 @@
+package com.Abhinav.backend.features.submission.repository;
+
+import com.Abhinav.backend.features.submission.model.SubmissionBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SubmissionBlobRepository extends JpaRepository<SubmissionBlob, UUID> {
+
+    @Query("SELECT b.code FROM SubmissionBlob b WHERE b.submissionId = :submissionId")
+    Optional<String> findCodeBySubmissionId(@Param("submissionId") UUID submissionId);
+}
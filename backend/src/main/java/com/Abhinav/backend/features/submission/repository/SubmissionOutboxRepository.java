@@ -0,0 +1,70 @@
+package com.Abhinav.backend.features.submission.repository;
+
+import com.Abhinav.backend.features.submission.model.SubmissionOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SubmissionOutboxRepository extends JpaRepository<SubmissionOutbox, UUID> {
+
+    /**
+     * Locks the oldest due rows, duel lane first, until the claiming transaction ends. SKIP LOCKED
+     * lets several backend replicas claim side by side; the relay then leases the rows with
+     * {@link #leaseForRelay} so they stay hidden while it sends them without the lock.
+     */
+    @Query(value = """
+        SELECT *
+        FROM submission_outbox
+        WHERE next_attempt_at <= :now
+        ORDER BY CASE WHEN lane = 'DUEL' THEN 0 ELSE 1 END, created_at ASC
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<SubmissionOutbox> claimDue(@Param("now") Instant now, @Param("limit") int limit);
+
+
+    /**
+     * Counts an attempt on claimed rows and hides them from {@link #claimDue} until {@code until}.
+     * A relay that dies mid-send leaves them to be picked up again once the lease runs out.
+     */
+    @Modifying
+    @Query("UPDATE SubmissionOutbox o SET o.attempts = o.attempts + 1, o.nextAttemptAt = :until WHERE o.id IN :ids")
+    int leaseForRelay(@Param("ids") Collection<UUID> ids, @Param("until") Instant until);
+
+    @Modifying
+    @Query("UPDATE SubmissionOutbox o SET o.nextAttemptAt = :nextAttemptAt WHERE o.id = :id")
+    int reschedule(@Param("id") UUID id, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    /**
+     * Takes a row that the relay has not picked up yet and pushes its next attempt out to
+     * {@code until}. Returns 0 when the relay already owns the row, or has tried it before, or it
+     * is gone.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE SubmissionOutbox o
+        SET o.nextAttemptAt = :until
+        WHERE o.submissionId = :submissionId AND o.attempts = 0 AND o.nextAttemptAt > :now
+    """)
+    int lease(@Param("submissionId") UUID submissionId, @Param("now") Instant now, @Param("until") Instant until);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SubmissionOutbox o SET o.nextAttemptAt = :now WHERE o.submissionId = :submissionId AND o.attempts = 0")
+    int markDue(@Param("submissionId") UUID submissionId, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SubmissionOutbox o WHERE o.submissionId = :submissionId")
+    int deleteBySubmissionId(@Param("submissionId") UUID submissionId);
+}
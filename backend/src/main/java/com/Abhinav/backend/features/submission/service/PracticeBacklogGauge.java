@@ -0,0 +1,48 @@
+package com.Abhinav.backend.features.submission.service;
+
+import com.Abhinav.backend.features.AWS.service.SqsService;
+import com.Abhinav.backend.features.submission.model.SubmissionLane;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a cached reading of how many practice submissions are waiting in their SQS queue, so
+ * admission control can turn practice work away when judges fall behind without a remote call or a
+ * database count on every submission. When a refresh fails the last reading is kept.
+ */
+@Component
+@RequiredArgsConstructor
+public class PracticeBacklogGauge {
+
+    private static final Logger logger = LoggerFactory.getLogger(PracticeBacklogGauge.class);
+
+    private final SqsService sqsService;
+
+    // Practice submissions are turned away once this many are waiting in the queue; duels never are.
+    @Value("${submission.admission.practice-backlog-limit:500}")
+    private long practiceBacklogLimit;
+
+    private volatile long depth;
+
+
+    @Scheduled(fixedDelayString = "${submission.admission.refresh-interval:PT5S}")
+    public void refresh() {
+        try {
+            depth = sqsService.approximateDepth(SubmissionLane.PRACTICE);
+        } catch (RuntimeException e) {
+            logger.warn("[PRACTICE_BACKLOG] Could not read the practice queue depth. Keeping the last reading of {}.", depth, e);
+        }
+    }
+
+    public boolean isSaturated() {
+        return depth >= practiceBacklogLimit;
+    }
+
+    long depth() {
+        return depth;
+    }
+}
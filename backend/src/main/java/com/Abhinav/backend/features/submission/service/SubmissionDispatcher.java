@@ -0,0 +1,118 @@
+package com.Abhinav.backend.features.submission.service;
+
+import com.Abhinav.backend.features.submission.model.SubmissionLane;
+import com.Abhinav.backend.features.submission.repository.SubmissionOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides where a freshly committed submission gets judged. If one of the local judging slots is
+ * idle, the submission runs in-process straight away; otherwise it spills to SQS through the
+ * outbox relay. While judged locally the outbox row is leased rather than deleted; a failed
+ * judgment hands the row straight back to the relay, and the lease only covers a crash
+ * mid-judgment, after which the relay sends it to SQS once the lease runs out. Practice submissions may
+ * not take the last {@code reservedDuelSlots} slots, so a live duel always finds one free.
+ */
+@Component
+public class SubmissionDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionDispatcher.class);
+
+    private final SubmissionService submissionService;
+    private final SubmissionOutboxRepository outboxRepository;
+    private final SubmissionOutboxRelay outboxRelay;
+    private final ThreadPoolExecutor localJudges;
+    private final Duration localLease;
+    private final int practiceSlots;
+
+    public SubmissionDispatcher(SubmissionService submissionService,
+                                SubmissionOutboxRepository outboxRepository,
+                                SubmissionOutboxRelay outboxRelay,
+                                @Value("${submission.dispatch.local-slots:4}") int localSlots,
+                                @Value("${submission.dispatch.local-lease:10m}") Duration localLease,
+                                @Value("${submission.dispatch.reserved-duel-slots:1}") int reservedDuelSlots) {
+        this.submissionService = submissionService;
+        this.outboxRepository = outboxRepository;
+        this.outboxRelay = outboxRelay;
+        this.localLease = localLease;
+        this.practiceSlots = Math.max(0, localSlots - reservedDuelSlots);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // No queue: a task is accepted only if a slot is idle right now, otherwise it is rejected and spilled.
+        this.localJudges = new ThreadPoolExecutor(localSlots, localSlots, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "local-judge-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void dispatch(UUID submissionId, SubmissionLane lane) {
+        if (lane == SubmissionLane.PRACTICE && localJudges.getActiveCount() >= practiceSlots) {
+            spillToQueue(submissionId);
+            return;
+        }
+        try {
+            localJudges.execute(() -> judgeLocally(submissionId));
+        } catch (RejectedExecutionException e) {
+            spillToQueue(submissionId);
+        }
+    }
+
+    private void judgeLocally(UUID submissionId) {
+        String logPrefix = "[LOCAL_JUDGE submissionId=" + submissionId + "]";
+        Instant now = Instant.now();
+
+        try {
+            if (outboxRepository.lease(submissionId, now, now.plus(localLease)) == 0) {
+                logger.info("{} Relay already picked this submission up. Leaving it to SQS.", logPrefix);
+                return;
+            }
+        } catch (Exception e) {
+            logger.warn("{} Could not lease outbox row. Leaving it to the relay.", logPrefix, e);
+            return;
+        }
+
+        logger.info("{} -> Judging in-process ({} of {} slots busy).", logPrefix, localJudges.getActiveCount(), localJudges.getMaximumPoolSize());
+        try {
+            submissionService.processSubmission(submissionId);
+            outboxRepository.deleteBySubmissionId(submissionId);
+        } catch (Exception e) {
+            logger.error("{} In-process judging failed. Handing it to SQS.", logPrefix, e);
+            handToRelay(submissionId);
+        }
+    }
+
+    private void spillToQueue(UUID submissionId) {
+        logger.info("[DISPATCH submissionId={}] All local judging slots busy. Spilling to SQS.", submissionId);
+        handToRelay(submissionId);
+    }
+
+    private void handToRelay(UUID submissionId) {
+        try {
+            outboxRepository.markDue(submissionId, Instant.now());
+        } catch (Exception e) {
+            logger.warn("[DISPATCH submissionId={}] Could not mark outbox row due. The relay will pick it up once its grace period or lease runs out.", submissionId, e);
+        }
+        outboxRelay.wakeUp();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        localJudges.shutdown();
+    }
+}
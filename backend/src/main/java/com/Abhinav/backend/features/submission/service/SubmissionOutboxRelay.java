@@ -0,0 +1,142 @@
+package com.Abhinav.backend.features.submission.service;
+
+import com.Abhinav.backend.features.AWS.service.SqsService;
+import com.Abhinav.backend.features.submission.model.SubmissionLane;
+import com.Abhinav.backend.features.submission.model.SubmissionOutbox;
+import com.Abhinav.backend.features.submission.repository.SubmissionOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the submission outbox into SQS. Freshly committed submissions wake the relay on its next
+ * tick; a periodic sweep picks up rows left behind by failed sends or a crashed replica. A row is
+ * only deleted after SQS acknowledged it, so every submission is dispatched at least once.
+ * <p>
+ * Rows are claimed and leased in one short transaction, sent with no transaction or lock held, and
+ * settled in a second one, so a slow SQS never pins row locks or a database connection.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubmissionOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionOutboxRelay.class);
+
+    private static final int CLAIM_SIZE = SqsService.MAX_BATCH_SIZE * 5;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private final SqsService sqsService;
+    private final SubmissionOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean wakeUp = new AtomicBoolean(true);
+    private volatile long nextSweepAtMillis = 0;
+
+    @Value("${submission.outbox.sweep-interval-ms:5000}")
+    private long sweepIntervalMs;
+
+    // How long claimed rows stay hidden from other relays while they are sent to SQS.
+    @Value("${submission.outbox.lease:1m}")
+    private Duration lease;
+
+
+    public void wakeUp() {
+        wakeUp.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${submission.outbox.poll-interval-ms:100}")
+    public void relay() {
+        long now = System.currentTimeMillis();
+        if (!wakeUp.getAndSet(false) && now < nextSweepAtMillis) {
+            return;
+        }
+        nextSweepAtMillis = now + sweepIntervalMs;
+
+        try {
+            int claimed;
+            do {
+                claimed = relayBatch();
+            } while (claimed == CLAIM_SIZE);
+        } catch (Exception e) {
+            logger.error("[OUTBOX_RELAY] Relay pass failed. Pending rows will be retried on the next sweep.", e);
+        }
+    }
+
+    int relayBatch() {
+        List<SubmissionOutbox> due = transactionTemplate.execute(status -> claim());
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+
+        List<SubmissionOutbox> sent = new ArrayList<>();
+        List<SubmissionOutbox> failed = new ArrayList<>();
+
+        // Claimed rows arrive duel lane first, so duel batches always leave before practice ones.
+        Map<SubmissionLane, List<SubmissionOutbox>> byLane = due.stream()
+                .collect(Collectors.groupingBy(SubmissionOutbox::getLane, () -> new EnumMap<>(SubmissionLane.class), Collectors.toList()));
+
+        byLane.forEach((lane, rows) -> {
+            for (int from = 0; from < rows.size(); from += SqsService.MAX_BATCH_SIZE) {
+                List<SubmissionOutbox> chunk = rows.subList(from, Math.min(from + SqsService.MAX_BATCH_SIZE, rows.size()));
+                Set<UUID> acknowledged = sqsService.sendSubmissionBatch(lane, chunk.stream().map(SubmissionOutbox::getSubmissionId).toList());
+
+                for (SubmissionOutbox row : chunk) {
+                    if (acknowledged.contains(row.getSubmissionId())) {
+                        sent.add(row);
+                    } else {
+                        failed.add(row);
+                    }
+                }
+            }
+        });
+
+        Instant now = Instant.now();
+        for (SubmissionOutbox row : failed) {
+            row.setNextAttemptAt(now.plus(backoff(row.getAttempts())));
+            if (row.getAttempts() % 10 == 0) {
+                logger.error("[OUTBOX_RELAY] Submission {} still not dispatched after {} attempts.", row.getSubmissionId(), row.getAttempts());
+            }
+        }
+
+        // A failure here leaves the rows leased; they are sent again once the lease runs out.
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.deleteAllInBatch(sent);
+            failed.forEach(row -> outboxRepository.reschedule(row.getId(), row.getNextAttemptAt()));
+        });
+
+        logger.info("[OUTBOX_RELAY] Claimed {} rows: {} dispatched, {} rescheduled.", due.size(), sent.size(), failed.size());
+        return due.size();
+    }
+
+    // Leasing counts as an attempt, which is also what tells SubmissionDispatcher the relay owns the row.
+    private List<SubmissionOutbox> claim() {
+        Instant now = Instant.now();
+        List<SubmissionOutbox> due = outboxRepository.claimDue(now, CLAIM_SIZE);
+        if (!due.isEmpty()) {
+            outboxRepository.leaseForRelay(due.stream().map(SubmissionOutbox::getId).toList(), now.plus(lease));
+            due.forEach(row -> row.setAttempts(row.getAttempts() + 1));
+        }
+        return due;
+    }
+
+    private Duration backoff(int attempts) {
+        long millis = BASE_BACKOFF.toMillis() << Math.min(attempts - 1, 16);
+        return Duration.ofMillis(Math.min(millis, MAX_BACKOFF.toMillis()));
+    }
+}
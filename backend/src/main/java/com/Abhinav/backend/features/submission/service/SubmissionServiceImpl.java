@@ -1,7 +1,9 @@
 package com.Abhinav.backend.features.submission.service;
 
 import com.Abhinav.backend.features.AWS.service.S3Service;
+import com.Abhinav.backend.features.authentication.service.ProfileAggregateService;
 import com.Abhinav.backend.features.exception.InvalidRequestException;
+import com.Abhinav.backend.features.exception.ServiceUnavailableException;
 import com.Abhinav.backend.features.judge0.service.Judge0Service;
 import com.Abhinav.backend.features.match.model.Match;
 import com.Abhinav.backend.features.match.model.MatchStatus;
@@ -12,26 +14,37 @@ import com.Abhinav.backend.features.problem.model.Problem;
 import com.Abhinav.backend.features.problem.model.ProblemStatus;
 import com.Abhinav.backend.features.problem.repository.ProblemRepository;
 import com.Abhinav.backend.features.submission.dto.SubmissionDetailsDTO;
+import com.Abhinav.backend.features.submission.dto.SubmissionProgressDTO;
 import com.Abhinav.backend.features.submission.dto.SubmissionRequest;
 import com.Abhinav.backend.features.submission.dto.SubmissionResultDTO;
 import com.Abhinav.backend.features.submission.events.SubmissionCreatedEvent;
+import com.Abhinav.backend.features.submission.events.SubmissionJudgedEvent;
 import com.Abhinav.backend.features.submission.model.Language;
 import com.Abhinav.backend.features.submission.model.Submission;
+import com.Abhinav.backend.features.submission.model.SubmissionBlob;
+import com.Abhinav.backend.features.submission.model.SubmissionLane;
+import com.Abhinav.backend.features.submission.model.SubmissionOutbox;
 import com.Abhinav.backend.features.submission.model.SubmissionStatus;
+import com.Abhinav.backend.features.submission.repository.LegacySubmissionTextReader;
+import com.Abhinav.backend.features.submission.repository.SubmissionBlobRepository;
+import com.Abhinav.backend.features.submission.repository.SubmissionOutboxRepository;
 import com.Abhinav.backend.features.submission.repository.SubmissionRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 
@@ -48,12 +61,25 @@ public class SubmissionServiceImpl implements SubmissionService {
     private final NotificationService notificationService;
     private final ApplicationEventPublisher eventPublisher;
     private final SubmissionRepository submissionRepository;
+    private final SubmissionBlobRepository submissionBlobRepository;
+    private final LegacySubmissionTextReader legacySubmissionText;
+    private final SubmissionOutboxRepository submissionOutboxRepository;
+    private final SubmissionVerdictWriter verdictWriter;
+    private final PracticeBacklogGauge practiceBacklog;
+    private final ProfileAggregateService profileAggregateService;
     private static final Logger logger = LoggerFactory.getLogger(SubmissionServiceImpl.class);
 
+    // Time the dispatcher has to claim a new submission for local judging before the relay sends it to SQS.
+    @Value("${submission.dispatch.grace:10s}")
+    private Duration dispatchGrace;
+
+    // A PROCESSING claim older than this is assumed to belong to a dead worker and may be taken over.
+    @Value("${submission.processing.claim-timeout:10m}")
+    private Duration claimTimeout;
+
 
     @Override
     @Transactional
-    @CacheEvict(value = "userProfiles", allEntries = true)
     public Submission createSubmission(SubmissionRequest request, Long userId) {
         Problem problem = problemRepository.findById(UUID.fromString(request.getProblemId()))
                 .orElseThrow(() -> new InvalidRequestException(
@@ -77,6 +103,11 @@ public class SubmissionServiceImpl implements SubmissionService {
             }
         }
 
+        SubmissionLane lane = SubmissionLane.of(request.getMatchId());
+        if (lane == SubmissionLane.PRACTICE && practiceBacklog.isSaturated()) {
+            throw new ServiceUnavailableException("The judge is busy with live matches. Please try your practice submission again shortly.");
+        }
+
         String logPrefix = String.format("[CREATE_SUBMISSION userId=%d, problemId=%s]", userId, request.getProblemId());
         logger.info("{} -> Starting submission creation.", logPrefix);
 
@@ -84,46 +115,71 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .userId(userId)
                 .matchId(request.getMatchId())
                 .problemId(UUID.fromString(request.getProblemId()))
-                .code(request.getCode())
                 .language(Language.fromSlug(request.getLanguage()))
                 .status(SubmissionStatus.PENDING)
                 .build();
 
         Submission savedSubmission = submissionRepository.save(submission);
+        submissionBlobRepository.save(SubmissionBlob.builder()
+                .submissionId(savedSubmission.getId())
+                .code(request.getCode())
+                .build());
         logger.info("{} Entity saved with ID: {}", logPrefix, savedSubmission.getId());
+        profileAggregateService.recordSubmission(userId);
 
-        eventPublisher.publishEvent(new SubmissionCreatedEvent(this, savedSubmission.getId()));
-        logger.info("{} Published SubmissionCreatedEvent. SQS message will be sent after commit.", logPrefix);
+        submissionOutboxRepository.save(SubmissionOutbox.builder()
+                .submissionId(savedSubmission.getId())
+                .lane(lane)
+                .nextAttemptAt(Instant.now().plus(dispatchGrace))
+                .build());
+
+        eventPublisher.publishEvent(new SubmissionCreatedEvent(this, savedSubmission.getId(), userId, lane));
+        logger.info("{} Queued submission in the outbox. It will be dispatched after commit.", logPrefix);
 
         return savedSubmission;
     }
 
 
+    /**
+     * Runs in three stages so a database connection is only held for the two status updates,
+     * never while Judge0 is working: claim (PENDING -> PROCESSING), execute (no transaction) and
+     * persist (PROCESSING -> final verdict). Both updates are conditional, which makes redelivered
+     * or duplicated messages no-ops.
+     */
     @Override
-    @Transactional
     public void processSubmission(UUID submissionId) {
         String logPrefix = "[PROCESS_SUBMISSION id=" + submissionId + "]";
         logger.info("{} -> Starting processing workflow.", logPrefix);
 
+        Instant now = Instant.now();
+        if (submissionRepository.claimForProcessing(submissionId, now, now.minus(claimTimeout),
+                SubmissionStatus.PENDING, SubmissionStatus.PROCESSING) == 0) {
+            SubmissionStatus current = submissionRepository.findById(submissionId).map(Submission::getStatus).orElse(null);
+            if (current == SubmissionStatus.PROCESSING) {
+                // Another worker holds a live claim; fail so the message comes back once that claim has either finished or gone stale.
+                throw new IllegalStateException("Submission " + submissionId + " is still being judged by another worker.");
+            }
+            logger.info("{} Submission is missing or already judged ({}). Skipping.", logPrefix, current);
+            return;
+        }
+
         Submission submission = submissionRepository.findById(submissionId).orElse(null);
         if (submission == null) {
             logger.error("{} CRITICAL: No submission found. Aborting.", logPrefix);
             return;
         }
-
-        logger.info("{} STEP A: Acquired submission. Setting status to PROCESSING.", logPrefix);
-        submission.setStatus(SubmissionStatus.PROCESSING);
-        submission = submissionRepository.save(submission);
+        submission.setCode(submissionBlobRepository.findCodeBySubmissionId(submissionId)
+                .or(() -> copyLegacyText(submissionId))
+                .orElse(null));
+        logger.info("{} STEP A: Claimed submission. Status is now PROCESSING.", logPrefix);
 
         UUID matchId = submission.getMatchId();
 
         try {
             logger.info("{} STEP B: Fetching associated problem data.", logPrefix);
-            Submission finalSubmission = submission;
-
-            Problem problem = problemRepository.findById(finalSubmission.getProblemId())
+            Problem problem = problemRepository.findById(submission.getProblemId())
                     .orElseThrow(() -> new IllegalStateException(
-                            "Problem not found for ID: " + finalSubmission.getProblemId()));
+                            "Problem not found for ID: " + submission.getProblemId()));
 
             logger.info("{}   - Fetched problem '{}' (ID: {}).", logPrefix, problem.getTitle(), problem.getId());
 
@@ -149,28 +205,37 @@ public class SubmissionServiceImpl implements SubmissionService {
             logger.info("{}   - USER CODE LENGTH: {}, FULL CODE LENGTH: {}.", logPrefix, submission.getCode().length(), fullCode.length());
 
             logger.info("{} STEP E: Sending code to Judge0 for execution.", logPrefix);
-            SubmissionResultDTO tempResult = judge0Service.executeCode(fullCode, submission.getLanguage().getSlug(), allTestCases, matchId);
+            SubmissionResultDTO tempResult = judge0Service.executeCode(fullCode, submission.getLanguage().getSlug(), allTestCases, matchId,
+                    (completed, passed, total, maxRuntimeMs) -> notificationService.notifyProgress(submissionId,
+                            SubmissionProgressDTO.builder()
+                                    .submissionId(submissionId)
+                                    .completedTests(completed)
+                                    .passedTests(passed)
+                                    .totalTests(total)
+                                    .maxRuntimeMs(maxRuntimeMs)
+                                    .build()));
             logger.info("{}   - Execution complete. Status: {}, Runtime: {}ms, Memory: {}KB", logPrefix,
                     tempResult.getStatus(), tempResult.getRuntimeMs(), tempResult.getMemoryKb());
 
             logger.info("{} STEP F: Persisting final result to the database.", logPrefix);
             submission.setStatus(tempResult.getStatus());
             submission.setRuntimeMs(tempResult.getRuntimeMs());
-            submission.setMatchId(tempResult.getMatchId());
             submission.setMemoryKb(tempResult.getMemoryKb());
             submission.setStderr(tempResult.getStderr());
-            Submission savedSubmission = submissionRepository.save(submission);
+            if (!completeProcessing(submission, logPrefix)) {
+                return;
+            }
 
             logger.info("{} STEP G: Sending WebSocket notification.", logPrefix);
-            SubmissionResultDTO finalResult = SubmissionResultDTO.fromEntity(savedSubmission);
+            SubmissionResultDTO finalResult = SubmissionResultDTO.fromEntity(submission);
 
             if (matchId != null) {
                 logger.info("[PROCESS_SUBMISSION id={}] This submission belongs to duel {}. Notifying MatchService.", submissionId, matchId);
                 try {
                     matchService.processDuelSubmissionResult(
                             matchId,
-                            savedSubmission.getUserId(),
-                            savedSubmission.getStatus()
+                            submission.getUserId(),
+                            submission.getStatus()
                     );
                 } catch (Exception e) {
                     logger.error("[PROCESS_SUBMISSION id={}] CRITICAL: Failed to process duel state update for match {}.", submissionId, matchId, e);
@@ -187,16 +252,30 @@ public class SubmissionServiceImpl implements SubmissionService {
     }
 
 
+    private boolean completeProcessing(Submission submission, String logPrefix) {
+        // The writer records the profile aggregates in the same transaction as the verdict.
+        SubmissionVerdictWriter.Outcome outcome = verdictWriter.write(submission);
+        if (!outcome.applied()) {
+            logger.warn("{} Submission was already finalized by another worker. Discarding this result.", logPrefix);
+            return false;
+        }
+        boolean firstSolve = outcome == SubmissionVerdictWriter.Outcome.FIRST_SOLVE;
+        eventPublisher.publishEvent(new SubmissionJudgedEvent(this, submission.getId(), submission.getUserId(), submission.getStatus(), firstSolve));
+        return true;
+    }
+
+
     private void handleProcessingError(Submission submission, Exception e, String logPrefix) {
         logger.debug("{} Entering error handling block.", logPrefix);
         try {
             submission.setStatus(SubmissionStatus.INTERNAL_ERROR);
             submission.setStderr("Something went wrong");
-            submission.setMatchId(submission.getMatchId());
-            Submission savedSubmission = submissionRepository.save(submission);
+            if (!completeProcessing(submission, logPrefix)) {
+                return;
+            }
             logger.info("{}   - Submission status updated to INTERNAL_ERROR in database.", logPrefix);
             logger.debug("{}   - Sending error notification.", logPrefix);
-            SubmissionResultDTO errorResult = SubmissionResultDTO.fromEntity(savedSubmission);
+            SubmissionResultDTO errorResult = SubmissionResultDTO.fromEntity(submission);
             notificationService.notifyUser(submission.getUserId(), submission.getId(), errorResult);
             logger.info("{} <- Error handling complete.", logPrefix);
         } catch (Exception handlerEx) {
@@ -218,6 +297,11 @@ public class SubmissionServiceImpl implements SubmissionService {
         Problem problem = problemRepository.findById(submission.getProblemId())
                 .orElseThrow(() -> new EntityNotFoundException("Problem not found with id: " + submission.getProblemId()));
 
+        // The only read path that needs the large text, so it is fetched here and nowhere else.
+        SubmissionBlob blob = submissionBlobRepository.findById(submissionId)
+                .or(() -> legacySubmissionText.find(submissionId))
+                .orElseGet(SubmissionBlob::new);
+
         return SubmissionDetailsDTO.builder()
                 .id(submission.getId())
                 .problemId(problem.getId())
@@ -226,12 +310,20 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .problemSlug(problem.getSlug())
                 .status(submission.getStatus())
                 .language(submission.getLanguage().name())
-                .code(submission.getCode())
+                .code(blob.getCode())
                 .runtimeMs(submission.getRuntimeMs())
                 .memoryKb(submission.getMemoryKb())
-                .stdout(submission.getStdout())
-                .stderr(submission.getStderr())
+                .stdout(blob.getStdout())
+                .stderr(blob.getStderr())
                 .createdAt(submission.getCreatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+
+    // Submissions written inline by a replica on the previous release get their blob row now,
+    // so the verdict's stderr has a row to land in.
+    private Optional<String> copyLegacyText(UUID submissionId) {
+        return legacySubmissionText.find(submissionId)
+                .map(blob -> submissionBlobRepository.save(blob).getCode());
+    }
+}
@@ -0,0 +1,167 @@
+package com.Abhinav.backend.features.submission.service;
+
+import com.Abhinav.backend.features.authentication.service.ProfileAggregateService;
+import com.Abhinav.backend.features.submission.model.Submission;
+import com.Abhinav.backend.features.submission.model.SubmissionStatus;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Groups verdict updates from concurrent judgments into batched UPDATEs. Each caller enqueues its
+ * verdict; whichever caller gets the flush lock writes everything queued so far in one JDBC batch,
+ * while the others wait for their own row's outcome. The update is conditional on the submission
+ * still being PROCESSING, so each caller learns whether its verdict was the one that landed.
+ * The stderr of a verdict that landed goes to {@code submission_blobs}, and its effect on the
+ * user's profile aggregates is recorded, in the same transaction, so the counts cannot drift from
+ * the verdicts.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubmissionVerdictWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionVerdictWriter.class);
+
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long FOLLOWER_WAIT_MS = 50;
+
+    private static final String UPDATE_SQL = """
+        UPDATE submissions
+        SET status = ?, runtime_ms = ?, memory_kb = ?
+        WHERE id = ? AND status = ?
+    """;
+
+    private static final String UPDATE_BLOB_SQL = "UPDATE submission_blobs SET stderr = ? WHERE submission_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProfileAggregateService profileAggregateService;
+
+    private final LinkedBlockingQueue<PendingVerdict> pending = new LinkedBlockingQueue<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+
+    /**
+     * Writes the submission's verdict and reports whether it was applied, and if so whether it was
+     * the user's first solve of the problem. {@link Outcome#DISCARDED} means the submission had
+     * already left PROCESSING.
+     */
+    public Outcome write(Submission submission) {
+        UUID submissionId = submission.getId();
+        PendingVerdict verdict = new PendingVerdict(submissionId, submission.getUserId(), submission.getProblemId(),
+                submission.getStatus(), submission.getRuntimeMs(), submission.getMemoryKb(), submission.getStderr(),
+                new CompletableFuture<>());
+        pending.add(verdict);
+
+        while (!verdict.result().isDone()) {
+            if (flushLock.tryLock()) {
+                try {
+                    flushBatch();
+                } finally {
+                    flushLock.unlock();
+                }
+            } else {
+                try {
+                    return verdict.result().get(FOLLOWER_WAIT_MS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    // The current leader has not reached this verdict yet; try to lead the next batch.
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while writing verdict for submission " + submissionId, e);
+                } catch (ExecutionException e) {
+                    throw unwrap(e.getCause());
+                }
+            }
+        }
+
+        try {
+            return verdict.result().join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+
+    private void flushBatch() {
+        List<PendingVerdict> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        pending.drainTo(batch, MAX_BATCH_SIZE);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            Outcome[] outcomes = transactionTemplate.execute(status -> writeBatch(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(outcomes[i]);
+            }
+            logger.debug("[VERDICT_WRITER] Flushed {} verdicts in one batch.", batch.size());
+        } catch (Exception e) {
+            logger.error("[VERDICT_WRITER] Batch of {} verdicts failed.", batch.size(), e);
+            batch.forEach(verdict -> verdict.result().completeExceptionally(e));
+        }
+    }
+
+    private Outcome[] writeBatch(List<PendingVerdict> batch) {
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, verdict) -> {
+            ps.setString(1, verdict.status().name());
+            ps.setObject(2, verdict.runtimeMs(), Types.INTEGER);
+            ps.setObject(3, verdict.memoryKb(), Types.INTEGER);
+            ps.setObject(4, verdict.submissionId());
+            ps.setString(5, SubmissionStatus.PROCESSING.name());
+        })[0];
+
+        Outcome[] outcomes = new Outcome[batch.size()];
+        List<PendingVerdict> withStderr = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingVerdict verdict = batch.get(i);
+            if (counts[i] == 0) {
+                outcomes[i] = Outcome.DISCARDED;
+                continue;
+            }
+            boolean firstSolve = profileAggregateService.recordVerdict(verdict.userId(), verdict.problemId(), verdict.status());
+            outcomes[i] = firstSolve ? Outcome.FIRST_SOLVE : Outcome.APPLIED;
+            if (verdict.stderr() != null) {
+                withStderr.add(verdict);
+            }
+        }
+        if (!withStderr.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_BLOB_SQL, withStderr, withStderr.size(), (ps, verdict) -> {
+                ps.setString(1, verdict.stderr());
+                ps.setObject(2, verdict.submissionId());
+            });
+        }
+        return outcomes;
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+
+    public enum Outcome {
+        DISCARDED, APPLIED, FIRST_SOLVE;
+
+        public boolean applied() {
+            return this != DISCARDED;
+        }
+    }
+
+    private record PendingVerdict(UUID submissionId, Long userId, UUID problemId, SubmissionStatus status,
+                                  Integer runtimeMs, Integer memoryKb, String stderr, CompletableFuture<Outcome> result) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.Abhinav.backend.core.cache;
+
+import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
+import com.Abhinav.backend.features.authentication.repository.AuthenticationUserRepository;
+import com.Abhinav.backend.features.duel.events.DuelEndedEvent;
+import com.Abhinav.backend.features.match.events.MatchEndedEvent;
+import com.Abhinav.backend.features.match.model.MatchStatus;
+import com.Abhinav.backend.features.problem.events.ProblemChangedEvent;
+import com.Abhinav.backend.features.submission.events.SubmissionJudgedEvent;
+import com.Abhinav.backend.features.submission.model.SubmissionStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationListenerTest {
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private AuthenticationUserRepository userRepository;
+
+    @InjectMocks
+    private CacheInvalidationListener listener;
+
+
+
+    @Test
+    @DisplayName("Should evict both players' profiles and every page of their match history when a match ends")
+    void testOnMatchEnded() {
+        when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(user(1L, "alice@x.com"), user(2L, "bob@x.com")));
+
+        listener.onMatchEnded(new MatchEndedEvent(this, UUID.randomUUID(), MatchStatus.COMPLETED, 1L, 2L));
+
+        verify(cacheInvalidator).evict("userProfiles", "alice");
+        verify(cacheInvalidator).evict("userProfiles", "bob");
+        verify(cacheInvalidator).evict(CacheTag.matchHistoryOf(1L));
+        verify(cacheInvalidator).evict(CacheTag.matchHistoryOf(2L));
+    }
+
+
+    @Test
+    @DisplayName("Should evict duel players' match history so finished duels show up right away")
+    void testOnDuelEnded() {
+        when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of());
+
+        listener.onDuelEnded(new DuelEndedEvent(this, UUID.randomUUID(), 1L, 2L));
+
+        verify(cacheInvalidator).evict(CacheTag.matchHistoryOf(1L));
+        verify(cacheInvalidator).evict(CacheTag.matchHistoryOf(2L));
+    }
+
+
+    @Test
+    @DisplayName("Should keep the cached profile when a verdict does not change the solved set")
+    void testOnSubmissionJudged_NotFirstSolve() {
+        listener.onSubmissionJudged(new SubmissionJudgedEvent(this, UUID.randomUUID(), 1L, SubmissionStatus.ACCEPTED, false));
+
+        verifyNoInteractions(cacheInvalidator, userRepository);
+    }
+
+
+    @Test
+    @DisplayName("Should evict a renamed problem's detail page and statement pointer under both its old and new slug")
+    void testOnProblemChanged() {
+        listener.onProblemChanged(new ProblemChangedEvent(this, UUID.randomUUID(), "two-sum", "two-sum-ii", null));
+
+        verify(cacheInvalidator).evict("problemDetailPages", "two-sum");
+        verify(cacheInvalidator).evict("problemDetailPages", "two-sum-ii");
+        verify(cacheInvalidator).evict("problemStatementPointers", "two-sum");
+        verify(cacheInvalidator).evict("problemStatementPointers", "two-sum-ii");
+        verifyNoMoreInteractions(cacheInvalidator);
+    }
+
+
+    private AuthenticationUser user(Long id, String email) {
+        AuthenticationUser user = new AuthenticationUser();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+}
@@ -0,0 +1,119 @@
+package com.Abhinav.backend.core.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightLoaderTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SingleFlightLoader loader;
+
+
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        loader = new SingleFlightLoader(redisTemplate, Duration.ofMillis(200), Duration.ofMillis(10));
+    }
+
+
+    @Test
+    @DisplayName("Should run the loader once when concurrent callers miss the same key")
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> loader.load("k", () -> null, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "value";
+            }));
+            loading.await(1, TimeUnit.SECONDS);
+            Future<String> second = executor.submit(() -> loader.load("k", () -> null, () -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals("value", first.get(1, TimeUnit.SECONDS));
+            assertEquals("value", second.get(1, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    @DisplayName("Should wait for the cache instead of loading when another node holds the lease")
+    void testWaitsForLeaseHolder() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        AtomicInteger lookups = new AtomicInteger();
+
+        String value = loader.load("k", () -> lookups.incrementAndGet() < 3 ? null : "from-other-node", () -> "local");
+
+        assertEquals("from-other-node", value);
+    }
+
+
+    @Test
+    @DisplayName("Should load locally when the lease holder never fills the cache")
+    void testLoadsLocallyAfterLeaseTimeout() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        String value = loader.load("k", () -> null, () -> "local");
+
+        assertEquals("local", value);
+    }
+
+
+    @Test
+    @DisplayName("Should still load when Redis is unavailable for the lease")
+    void testFallsBackWhenRedisFails() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RuntimeException("connection refused"));
+
+        String value = loader.load("k", () -> null, () -> "local");
+
+        assertEquals("local", value);
+    }
+
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.Abhinav.backend.features.authentication.repository;
+
+import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class AuthenticationUserRepositoryTest {
+
+    @Autowired
+    private AuthenticationUserRepository userRepository;
+
+
+
+    @Test
+    @DisplayName("Should find a user by stored username")
+    void testFindByUsername_StoredHandle() {
+        AuthenticationUser user = user("alice@example.com", "alice-7");
+
+        assertThat(userRepository.findByUsername("alice-7")).contains(user);
+        assertThat(userRepository.findByUsername("alice")).isEmpty();
+    }
+
+
+    @Test
+    @DisplayName("Should find a user the backfill has not reached by their email local part")
+    void testFindByUsername_NullHandle() {
+        AuthenticationUser user = user("bob@example.com", null);
+
+        assertThat(userRepository.findByUsername("bob")).contains(user);
+        assertThat(userRepository.findByUsername("bo")).isEmpty();
+    }
+
+
+    @Test
+    @DisplayName("Should prefer the stored username, then the oldest unmigrated account")
+    void testFindByUsername_Precedence() {
+        AuthenticationUser older = user("carol@one.com", null);
+        user("carol@two.com", null);
+
+        assertThat(userRepository.findByUsername("carol")).contains(older);
+
+        AuthenticationUser migrated = user("someone@else.com", "carol");
+
+        assertThat(userRepository.findByUsername("carol")).contains(migrated);
+    }
+
+
+    private AuthenticationUser user(String email, String handle) {
+        AuthenticationUser user = new AuthenticationUser(email, "password");
+        user.setHandle(handle);
+        return userRepository.saveAndFlush(user);
+    }
+}
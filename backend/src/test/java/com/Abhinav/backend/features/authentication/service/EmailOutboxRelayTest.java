@@ -0,0 +1,162 @@
+package com.Abhinav.backend.features.authentication.service;
+
+import com.Abhinav.backend.features.authentication.model.EmailOutbox;
+import com.Abhinav.backend.features.authentication.repository.EmailOutboxRepository;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxRelayTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private EmailOutboxRepository outboxRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private EmailOutboxRelay relay;
+
+
+
+    @BeforeEach
+    void setUp() {
+        relay = new EmailOutboxRelay(mailSender, outboxRepository, transactionTemplate, 1, 3, Duration.ofMinutes(2));
+        when(mailSender.createMimeMessage()).thenAnswer(inv -> new MimeMessage(Session.getInstance(new Properties())));
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+
+    @Test
+    @DisplayName("Should send every claimed email in one call and delete the rows")
+    @SuppressWarnings("unchecked")
+    void testRelayBatch_AllSent() {
+        List<EmailOutbox> rows = rows(3, 0);
+        when(outboxRepository.claimDue(any(Instant.class), anyInt())).thenReturn(rows);
+
+        int claimed = relay.relayBatch();
+
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+        ArgumentCaptor<List<EmailOutbox>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).deleteAllInBatch(deleted.capture());
+        assertThat(claimed).isEqualTo(3);
+        assertThat(deleted.getValue()).containsExactlyElementsOf(rows);
+    }
+
+
+    @Test
+    @DisplayName("Should lease claimed rows before sending so no lock is held during SMTP")
+    @SuppressWarnings("unchecked")
+    void testRelayBatch_LeasesBeforeSending() {
+        List<EmailOutbox> rows = rows(2, 0);
+        when(outboxRepository.claimDue(any(Instant.class), anyInt())).thenReturn(rows);
+        Instant before = Instant.now();
+
+        relay.relayBatch();
+
+        InOrder order = inOrder(outboxRepository, mailSender, transactionTemplate);
+        ArgumentCaptor<List<UUID>> leased = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Instant> until = ArgumentCaptor.forClass(Instant.class);
+        order.verify(outboxRepository).lease(leased.capture(), until.capture());
+        order.verify(mailSender).send(any(MimeMessage[].class));
+        order.verify(transactionTemplate).executeWithoutResult(any());
+        assertThat(leased.getValue()).containsExactly(rows.get(0).getId(), rows.get(1).getId());
+        assertThat(until.getValue()).isAfterOrEqualTo(before.plus(Duration.ofMinutes(2)));
+    }
+
+
+    @Test
+    @DisplayName("Should reschedule only the messages the mail server rejected")
+    @SuppressWarnings("unchecked")
+    void testRelayBatch_PartialFailure() {
+        List<EmailOutbox> rows = rows(2, 0);
+        when(outboxRepository.claimDue(any(Instant.class), anyInt())).thenReturn(rows);
+        doAnswer(inv -> {
+            MimeMessage[] messages = inv.getArgument(0);
+            throw new MailSendException(Map.of(messages[1], new RuntimeException("mailbox full")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        relay.relayBatch();
+
+        ArgumentCaptor<List<EmailOutbox>> deleted = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepository).deleteAllInBatch(deleted.capture());
+        verify(outboxRepository).reschedule(eq(rows.get(1).getId()), eq(1), nextAttemptAt.capture());
+        verify(outboxRepository, never()).reschedule(eq(rows.get(0).getId()), anyInt(), any());
+        assertThat(deleted.getValue()).containsExactly(rows.get(0));
+        assertThat(nextAttemptAt.getValue()).isAfter(Instant.now());
+    }
+
+
+    @Test
+    @DisplayName("Should drop an email once it has used up its attempts")
+    @SuppressWarnings("unchecked")
+    void testRelayBatch_GivesUp() {
+        List<EmailOutbox> rows = rows(1, 2);
+        when(outboxRepository.claimDue(any(Instant.class), anyInt())).thenReturn(rows);
+        doThrow(new MailSendException("connection refused")).when(mailSender).send(any(MimeMessage[].class));
+
+        relay.relayBatch();
+
+        ArgumentCaptor<List<EmailOutbox>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).deleteAllInBatch(deleted.capture());
+        verify(outboxRepository, never()).reschedule(any(), anyInt(), any());
+        assertThat(deleted.getValue()).containsExactlyElementsOf(rows);
+    }
+
+
+    private List<EmailOutbox> rows(int count, int attempts) {
+        List<EmailOutbox> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(EmailOutbox.builder()
+                    .id(UUID.randomUUID())
+                    .recipient("user" + i + "@x.com")
+                    .subject("Your 2FA Code")
+                    .body("<h3>12345" + i + "</h3>")
+                    .attempts(attempts)
+                    .nextAttemptAt(Instant.now())
+                    .build());
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,95 @@
+package com.Abhinav.backend.features.authentication.service;
+
+import com.Abhinav.backend.features.authentication.repository.UserDailyActivityRepository;
+import com.Abhinav.backend.features.authentication.repository.UserSolvedProblemRepository;
+import com.Abhinav.backend.features.authentication.repository.UserTagSolveCountRepository;
+import com.Abhinav.backend.features.submission.model.SubmissionStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileAggregateServiceTest {
+
+    @Mock
+    private UserDailyActivityRepository dailyActivityRepository;
+
+    @Mock
+    private UserSolvedProblemRepository solvedProblemRepository;
+
+    @Mock
+    private UserTagSolveCountRepository tagSolveCountRepository;
+
+    @InjectMocks
+    private ProfileAggregateService profileAggregateService;
+
+
+
+    @Test
+    @DisplayName("Should bump tag counts and report a first solve")
+    void testRecordVerdict_FirstSolve() {
+        UUID problemId = UUID.randomUUID();
+        when(solvedProblemRepository.insertIfAbsent(7L, problemId)).thenReturn(1);
+
+        boolean firstSolve = profileAggregateService.recordVerdict(7L, problemId, SubmissionStatus.ACCEPTED);
+
+        assertThat(firstSolve).isTrue();
+        verify(tagSolveCountRepository).incrementForProblem(7L, problemId);
+    }
+
+
+    @Test
+    @DisplayName("Should leave tag counts alone when the problem was already solved")
+    void testRecordVerdict_RepeatSolve() {
+        UUID problemId = UUID.randomUUID();
+        when(solvedProblemRepository.insertIfAbsent(7L, problemId)).thenReturn(0);
+
+        boolean firstSolve = profileAggregateService.recordVerdict(7L, problemId, SubmissionStatus.ACCEPTED);
+
+        assertThat(firstSolve).isFalse();
+        verifyNoInteractions(tagSolveCountRepository);
+    }
+
+
+    @Test
+    @DisplayName("Should ignore verdicts other than ACCEPTED")
+    void testRecordVerdict_NotAccepted() {
+        profileAggregateService.recordVerdict(7L, UUID.randomUUID(), SubmissionStatus.WRONG_ANSWER);
+
+        verifyNoInteractions(solvedProblemRepository, tagSolveCountRepository);
+    }
+
+
+    @Test
+    @DisplayName("Should recount old and new tags for the solvers of a retagged problem")
+    void testRecountTags() {
+        UUID problemId = UUID.randomUUID();
+        Set<String> tags = Set.of("dp", "graphs");
+
+        profileAggregateService.recountTags(problemId, tags);
+
+        InOrder order = inOrder(tagSolveCountRepository);
+        order.verify(tagSolveCountRepository).deleteForSolversOf(problemId, tags);
+        order.verify(tagSolveCountRepository).recountForSolversOf(problemId, tags);
+    }
+
+
+    @Test
+    @DisplayName("Should do nothing when no tags are affected")
+    void testRecountTags_NoTags() {
+        profileAggregateService.recountTags(UUID.randomUUID(), List.of());
+
+        verifyNoInteractions(tagSolveCountRepository);
+    }
+}
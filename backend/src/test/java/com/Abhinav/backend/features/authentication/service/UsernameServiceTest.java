@@ -0,0 +1,96 @@
+package com.Abhinav.backend.features.authentication.service;
+
+import com.Abhinav.backend.features.authentication.model.AuthenticationUser;
+import com.Abhinav.backend.features.authentication.repository.AuthenticationUserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UsernameServiceTest {
+
+    @Mock
+    private AuthenticationUserRepository userRepository;
+
+    @InjectMocks
+    private UsernameService usernameService;
+
+
+
+    @Test
+    @DisplayName("Should use the local part of the email when it is free")
+    void testAllocateUsername_Free() {
+        when(userRepository.existsByHandle("alice")).thenReturn(false);
+
+        assertEquals("alice", usernameService.allocateUsername("alice@example.com"));
+    }
+
+
+    @Test
+    @DisplayName("Should append a suffix when the local part is already taken")
+    void testAllocateUsername_Taken() {
+        when(userRepository.existsByHandle(anyString())).thenAnswer(inv -> "alice".equals(inv.getArgument(0)));
+
+        String username = usernameService.allocateUsername("alice@other.com");
+
+        assertTrue(username.matches("alice-\\d{4}"));
+    }
+
+
+    @Test
+    @DisplayName("Should prefer the stored username and fall back to the email for unmigrated rows")
+    void testGetUsername() {
+        AuthenticationUser migrated = new AuthenticationUser("alice@other.com", null);
+        migrated.setHandle("alice-4821");
+        AuthenticationUser unmigrated = new AuthenticationUser("bob@example.com", null);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(migrated));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(unmigrated));
+
+        assertEquals("alice-4821", usernameService.getUsername(1L));
+        assertEquals("bob", usernameService.getUsername(2L));
+    }
+
+
+    @Test
+    @DisplayName("Should retry with a new username when a concurrent sign-up takes it first")
+    void testSaveWithUniqueUsername_RetriesOnRace() {
+        AuthenticationUser user = new AuthenticationUser("alice@example.com", null);
+        when(userRepository.existsByHandle("alice")).thenReturn(false, true);
+        when(userRepository.save(user))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"))
+                .thenReturn(user);
+
+        AuthenticationUser saved = usernameService.saveWithUniqueUsername(user);
+
+        assertSame(user, saved);
+        assertTrue(saved.getHandle().matches("alice-\\d{4}"));
+        verify(userRepository, times(2)).save(user);
+    }
+
+
+    @Test
+    @DisplayName("Should rethrow violations that are not about the username")
+    void testSaveWithUniqueUsername_OtherViolation() {
+        AuthenticationUser user = new AuthenticationUser("alice@example.com", null);
+        when(userRepository.existsByHandle("alice")).thenReturn(false);
+        when(userRepository.save(any(AuthenticationUser.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates users_email_key"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> usernameService.saveWithUniqueUsername(user));
+        verify(userRepository, times(1)).save(user);
+    }
+}
@@ -0,0 +1,61 @@
+package com.Abhinav.backend.features.authentication.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClientAddressResolverTest {
+
+    private final ClientAddressResolver resolver = new ClientAddressResolver("origin-secret");
+
+
+
+    @Test
+    @DisplayName("Should use the CloudFront viewer address for requests relayed by CloudFront")
+    void testViewerAddressFromCloudFront() {
+        assertEquals("198.51.100.7", resolver.resolve(request("origin-secret", "198.51.100.7:46532")));
+        assertEquals("2001:db8::1", resolver.resolve(request("origin-secret", "2001:db8::1:46532")));
+    }
+
+
+    @Test
+    @DisplayName("Should give users behind the same edge location separate addresses")
+    void testDistinctViewersBehindOneEdge() {
+        MockHttpServletRequest first = request("origin-secret", "198.51.100.7:1111");
+        MockHttpServletRequest second = request("origin-secret", "203.0.113.9:2222");
+
+        assertEquals("198.51.100.7", resolver.resolve(first));
+        assertEquals("203.0.113.9", resolver.resolve(second));
+    }
+
+
+    @Test
+    @DisplayName("Should ignore a viewer address sent without the origin secret")
+    void testSpoofedHeaderIgnored() {
+        assertEquals("130.176.1.1", resolver.resolve(request(null, "198.51.100.7:46532")));
+        assertEquals("130.176.1.1", resolver.resolve(request("guess", "198.51.100.7:46532")));
+        assertEquals("130.176.1.1", new ClientAddressResolver("").resolve(request("", "198.51.100.7:46532")));
+    }
+
+
+    @Test
+    @DisplayName("Should fall back to the remote address when CloudFront sends no viewer address")
+    void testMissingViewerAddress() {
+        assertEquals("130.176.1.1", resolver.resolve(request("origin-secret", null)));
+    }
+
+
+    private static MockHttpServletRequest request(String originSecret, String viewerAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("130.176.1.1");
+        if (originSecret != null) {
+            request.addHeader(ClientAddressResolver.ORIGIN_VERIFY_HEADER, originSecret);
+        }
+        if (viewerAddress != null) {
+            request.addHeader(ClientAddressResolver.VIEWER_ADDRESS_HEADER, viewerAddress);
+        }
+        return request;
+    }
+}
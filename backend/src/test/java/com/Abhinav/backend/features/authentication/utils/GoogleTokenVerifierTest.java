@@ -0,0 +1,62 @@
+package com.Abhinav.backend.features.authentication.utils;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GoogleTokenVerifierTest {
+
+    private final AtomicBoolean googleReachable = new AtomicBoolean(false);
+
+    private final GoogleTokenVerifier tokenVerifier =
+            new GoogleTokenVerifier("client-id", Duration.ofMinutes(10), StubKeysManager::new);
+
+
+
+    @Test
+    @DisplayName("Should keep the verifier in use when fetching new keys fails")
+    void testFailedRefreshKeepsVerifier() {
+        GoogleIdTokenVerifier before = tokenVerifier.currentVerifier();
+
+        tokenVerifier.refreshKeysAhead();
+
+        assertSame(before, tokenVerifier.currentVerifier());
+    }
+
+
+    @Test
+    @DisplayName("Should swap in a new verifier only after a successful fetch")
+    void testSuccessfulRefreshSwapsVerifier() {
+        GoogleIdTokenVerifier before = tokenVerifier.currentVerifier();
+        googleReachable.set(true);
+
+        tokenVerifier.refreshKeysAhead();
+
+        assertNotSame(before, tokenVerifier.currentVerifier());
+    }
+
+
+    private class StubKeysManager extends GooglePublicKeysManager {
+        StubKeysManager() {
+            super(new NetHttpTransport(), GsonFactory.getDefaultInstance());
+        }
+
+        @Override
+        public GooglePublicKeysManager refresh() throws IOException {
+            if (!googleReachable.get()) {
+                throw new IOException("www.googleapis.com unreachable");
+            }
+            return this;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.Abhinav.backend.features.duel.dto.SubmitScoreRequest;
 import com.Abhinav.backend.features.duel.service.DuelManager;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,10 +13,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -29,11 +35,24 @@ class SentinelListenerTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
     @InjectMocks
     private SentinelListener sentinelListener;
 
 
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOps);
+        lenient().when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+    }
+
+
     @Test
     @DisplayName("Should successfully process valid JSON and call DuelManager")
     void testReceiveMatchUpdate_Success() throws Exception {
@@ -47,7 +66,8 @@ class SentinelListenerTest {
                 "OK",
                 123456789L,
                 100L,
-                2048L
+                2048L,
+                555L
         );
 
         when(objectMapper.readValue(jsonPayload, MatchUpdateEvent.class)).thenReturn(mockEvent);
@@ -96,7 +116,8 @@ class SentinelListenerTest {
                 "OK",
                 0L,
                 0L,
-                0L
+                0L,
+                1L
         );
 
         when(objectMapper.readValue(anyString(), eq(MatchUpdateEvent.class))).thenReturn(mockEvent);
@@ -108,4 +129,86 @@ class SentinelListenerTest {
 
         verify(duelManager).submitScoreByHandle(any(), any(), any());
     }
-}
\ No newline at end of file
+
+
+    @Test
+    @DisplayName("Should skip redelivered submissions (Idempotent Scoring)")
+    void testReceiveMatchUpdate_DuplicateSkipped() throws Exception {
+        String jsonPayload = "{}";
+        UUID matchId = UUID.randomUUID();
+
+        MatchUpdateEvent mockEvent = new MatchUpdateEvent(
+                matchId, "tourist", "4A", "OK", 0L, 0L, 0L, 777L
+        );
+
+        when(objectMapper.readValue(jsonPayload, MatchUpdateEvent.class)).thenReturn(mockEvent);
+        when(valueOps.setIfAbsent(eq("duel:seen:" + matchId + ":777"), anyString(), any(Duration.class)))
+                .thenReturn(true, false);
+
+        sentinelListener.receiveMatchUpdate(jsonPayload);
+        sentinelListener.receiveMatchUpdate(jsonPayload);
+
+        verify(duelManager, times(1)).submitScoreByHandle(eq(matchId), eq("tourist"), any());
+    }
+
+
+    @Test
+    @DisplayName("Should score a redelivered update when the first attempt failed")
+    void testReceiveMatchUpdate_FailureThenRedelivery() throws Exception {
+        String jsonPayload = "{}";
+        UUID matchId = UUID.randomUUID();
+        String seenKey = "duel:seen:" + matchId + ":888";
+
+        MatchUpdateEvent mockEvent = new MatchUpdateEvent(
+                matchId, "tourist", "4A", "OK", 0L, 0L, 0L, 888L
+        );
+
+        when(objectMapper.readValue(jsonPayload, MatchUpdateEvent.class)).thenReturn(mockEvent);
+        doThrow(new RuntimeException("Redis timeout"))
+                .doNothing()
+                .when(duelManager).submitScoreByHandle(eq(matchId), eq("tourist"), any());
+
+        assertThat(sentinelListener.receiveMatchUpdate(jsonPayload)).isFalse();
+        verify(stringRedisTemplate).delete(seenKey);
+
+        assertThat(sentinelListener.receiveMatchUpdate(jsonPayload)).isTrue();
+        verify(valueOps, times(2)).setIfAbsent(eq(seenKey), anyString(), any(Duration.class));
+        verify(duelManager, times(2)).submitScoreByHandle(eq(matchId), eq("tourist"), any());
+    }
+
+
+    @Test
+    @DisplayName("Should fail the batch after scoring the rest so SQS redelivers it")
+    void testReceiveMatchUpdates_FailureLeavesBatchForRedelivery() throws Exception {
+        UUID matchId = UUID.randomUUID();
+
+        when(objectMapper.readValue("a", MatchUpdateEvent.class))
+                .thenReturn(new MatchUpdateEvent(matchId, "tourist", "4A", "OK", 0L, 0L, 0L, 1L));
+        when(objectMapper.readValue("b", MatchUpdateEvent.class))
+                .thenReturn(new MatchUpdateEvent(matchId, "petr", "4A", "WRONG_ANSWER", 0L, 0L, 0L, 2L));
+        doThrow(new RuntimeException("Database down"))
+                .when(duelManager).submitScoreByHandle(eq(matchId), eq("tourist"), any());
+
+        assertThatThrownBy(() -> sentinelListener.receiveMatchUpdates(List.of("a", "b")))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(duelManager).submitScoreByHandle(eq(matchId), eq("petr"), any());
+    }
+
+
+    @Test
+    @DisplayName("Should process every payload of a batch")
+    void testReceiveMatchUpdates_Batch() throws Exception {
+        UUID matchId = UUID.randomUUID();
+
+        when(objectMapper.readValue("a", MatchUpdateEvent.class))
+                .thenReturn(new MatchUpdateEvent(matchId, "tourist", "4A", "OK", 0L, 0L, 0L, 1L));
+        when(objectMapper.readValue("b", MatchUpdateEvent.class))
+                .thenReturn(new MatchUpdateEvent(matchId, "petr", "4A", "WRONG_ANSWER", 0L, 0L, 0L, 2L));
+
+        sentinelListener.receiveMatchUpdates(List.of("a", "b"));
+
+        verify(duelManager).submitScoreByHandle(eq(matchId), eq("tourist"), any());
+        verify(duelManager).submitScoreByHandle(eq(matchId), eq("petr"), any());
+    }
+}
@@ -1,6 +1,7 @@
 package com.Abhinav.backend.features.duel.service;
 
 import com.Abhinav.backend.features.duel.dto.*;
+import com.Abhinav.backend.features.duel.events.DuelEndedEvent;
 import com.Abhinav.backend.features.duel.model.*;
 import com.Abhinav.backend.features.duel.producer.SentinelProducer;
 import com.Abhinav.backend.features.duel.repository.DuelRepository;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.*;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -57,6 +59,9 @@ class DuelManagerImplTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private ValueOperations<String, Object> valueOps;
 
@@ -87,7 +92,8 @@ class DuelManagerImplTest {
                 sentinelProducer,
                 objectMapper,
                 notificationService,
-                messagingTemplate
+                messagingTemplate,
+                eventPublisher
         );
 
         lenient().when(redisTemplate.opsForValue()).thenReturn(valueOps);
@@ -205,6 +211,7 @@ class DuelManagerImplTest {
         ArgumentCaptor<DuelHistory> captor = ArgumentCaptor.forClass(DuelHistory.class);
         verify(duelRepository).save(captor.capture());
         assertThat(captor.getValue().getWinnerId()).isEqualTo(userId);
+        verify(eventPublisher).publishEvent(any(DuelEndedEvent.class));
     }
 
 
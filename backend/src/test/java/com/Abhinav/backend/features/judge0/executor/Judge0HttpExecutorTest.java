@@ -0,0 +1,100 @@
+package com.Abhinav.backend.features.judge0.executor;
+
+import com.Abhinav.backend.features.judge0.service.Judge0Service;
+import com.Abhinav.backend.features.submission.dto.SubmissionResultDTO;
+import com.Abhinav.backend.features.submission.model.SubmissionStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class Judge0HttpExecutorTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private Judge0HttpExecutor executor;
+
+    private static final List<Judge0Service.TestCase> TEST_CASES = List.of(new Judge0Service.TestCase("1", "1"));
+
+
+
+    @BeforeEach
+    void setUp() {
+        executor = new Judge0HttpExecutor("self-hosted-1", 0, "http://judge0:2358", Map.of(), restTemplate, new ObjectMapper());
+    }
+
+    private void batchPostFails(RuntimeException failure) {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenThrow(failure);
+    }
+
+    private SubmissionResultDTO execute() {
+        return executor.execute("print(1)", "python", TEST_CASES, null, (completed, passed, total, maxRuntimeMs) -> {});
+    }
+
+
+    @Test
+    @DisplayName("Should report the node unavailable when the connection cannot be opened")
+    void testExecute_ConnectRefused() {
+        batchPostFails(new ResourceAccessException("I/O error", new ConnectException("Connection refused")));
+
+        assertThatThrownBy(this::execute).isInstanceOf(CodeExecutorUnavailableException.class);
+    }
+
+
+    @Test
+    @DisplayName("Should report the node unavailable when it answers the batch with a 5xx")
+    void testExecute_ServerError() {
+        batchPostFails(HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", null, null, null));
+
+        assertThatThrownBy(this::execute).isInstanceOf(CodeExecutorUnavailableException.class);
+    }
+
+
+    @Test
+    @DisplayName("Should return an internal error without failing over when the node rejects the batch with a 4xx")
+    void testExecute_ClientError() {
+        batchPostFails(HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity", null, null, null));
+
+        SubmissionResultDTO result = execute();
+
+        assertThat(result.getStatus()).isEqualTo(SubmissionStatus.INTERNAL_ERROR);
+    }
+
+
+    @Test
+    @DisplayName("Should return an internal error without failing over when the response to the batch times out")
+    void testExecute_ReadTimeout() {
+        batchPostFails(new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out")));
+
+        SubmissionResultDTO result = execute();
+
+        assertThat(result.getStatus()).isEqualTo(SubmissionStatus.INTERNAL_ERROR);
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class));
+    }
+}
@@ -0,0 +1,123 @@
+package com.Abhinav.backend.features.judge0.service;
+
+import com.Abhinav.backend.features.judge0.executor.CodeExecutor;
+import com.Abhinav.backend.features.judge0.executor.CodeExecutorUnavailableException;
+import com.Abhinav.backend.features.submission.dto.SubmissionResultDTO;
+import com.Abhinav.backend.features.submission.model.SubmissionStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class Judge0ServiceImplTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private ObjectProvider<CodeExecutor> pluggedExecutors;
+
+    @Mock
+    private CodeExecutor primary;
+
+    @Mock
+    private CodeExecutor fallback;
+
+    @InjectMocks
+    private Judge0ServiceImpl judge0Service;
+
+    private static final List<Judge0Service.TestCase> TEST_CASES = List.of(new Judge0Service.TestCase("1", "1"));
+    private static final SubmissionResultDTO ACCEPTED = SubmissionResultDTO.builder().status(SubmissionStatus.ACCEPTED).build();
+
+
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(judge0Service, "selfHostedUrls", List.of());
+        ReflectionTestUtils.setField(judge0Service, "judge0ApiUrl", "");
+        lenient().when(primary.name()).thenReturn("primary");
+        lenient().when(fallback.name()).thenReturn("fallback");
+        lenient().when(primary.tier()).thenReturn(0);
+        lenient().when(fallback.tier()).thenReturn(1);
+        when(pluggedExecutors.orderedStream()).thenReturn(Stream.of(fallback, primary));
+        judge0Service.registerExecutors();
+    }
+
+
+    @Test
+    @DisplayName("Should prefer the executor in the lowest tier")
+    void testExecuteCode_PrefersLowestTier() {
+        when(primary.execute(anyString(), anyString(), anyList(), any(), any())).thenReturn(ACCEPTED);
+
+        SubmissionResultDTO result = judge0Service.executeCode("code", "python", TEST_CASES, null);
+
+        assertThat(result.getStatus()).isEqualTo(SubmissionStatus.ACCEPTED);
+        verify(fallback, never()).execute(anyString(), anyString(), anyList(), any(), any());
+    }
+
+
+    @Test
+    @DisplayName("Should fail over and keep an unreachable executor out of rotation")
+    void testExecuteCode_FailsOver() {
+        when(primary.execute(anyString(), anyString(), anyList(), any(), any()))
+                .thenThrow(new CodeExecutorUnavailableException("down", null));
+        when(fallback.execute(anyString(), anyString(), anyList(), any(), any())).thenReturn(ACCEPTED);
+
+        judge0Service.executeCode("code", "python", TEST_CASES, null);
+        judge0Service.executeCode("code", "python", TEST_CASES, null);
+
+        verify(primary, times(1)).execute(anyString(), anyString(), anyList(), any(), any());
+        verify(fallback, times(2)).execute(anyString(), anyString(), anyList(), any(), any());
+    }
+
+
+    @Test
+    @DisplayName("Should return the executor to rotation once its health probe succeeds")
+    void testProbeUnhealthyExecutors() {
+        when(primary.execute(anyString(), anyString(), anyList(), any(), any()))
+                .thenThrow(new CodeExecutorUnavailableException("down", null))
+                .thenReturn(ACCEPTED);
+        when(fallback.execute(anyString(), anyString(), anyList(), any(), any())).thenReturn(ACCEPTED);
+        when(primary.isAlive()).thenReturn(true);
+
+        judge0Service.executeCode("code", "python", TEST_CASES, null);
+        judge0Service.probeUnhealthyExecutors();
+        judge0Service.executeCode("code", "python", TEST_CASES, null);
+
+        verify(primary, times(2)).execute(anyString(), anyString(), anyList(), any(), any());
+    }
+
+
+    @Test
+    @DisplayName("Should report INTERNAL_ERROR when no executor is reachable")
+    void testExecuteCode_AllDown() {
+        when(primary.execute(anyString(), anyString(), anyList(), any(), any()))
+                .thenThrow(new CodeExecutorUnavailableException("down", null));
+        when(fallback.execute(anyString(), anyString(), anyList(), any(), any()))
+                .thenThrow(new CodeExecutorUnavailableException("down", null));
+
+        SubmissionResultDTO result = judge0Service.executeCode("code", "python", TEST_CASES, null);
+
+        assertThat(result.getStatus()).isEqualTo(SubmissionStatus.INTERNAL_ERROR);
+    }
+}
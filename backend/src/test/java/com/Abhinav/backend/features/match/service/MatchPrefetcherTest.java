@@ -0,0 +1,78 @@
+package com.Abhinav.backend.features.match.service;
+
+import com.Abhinav.backend.features.AWS.service.S3Service;
+import com.Abhinav.backend.features.authentication.service.UsernameService;
+import com.Abhinav.backend.features.problem.model.Problem;
+import com.Abhinav.backend.features.problem.repository.ProblemRepository;
+import com.Abhinav.backend.features.problem.service.ProblemService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MatchPrefetcherTest {
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private ProblemService problemService;
+
+    @Mock
+    private ProblemRepository problemRepository;
+
+    @Mock
+    private UsernameService usernameService;
+
+    private MatchPrefetcher prefetcher;
+
+
+
+    @BeforeEach
+    void setUp() {
+        prefetcher = new MatchPrefetcher(s3Service, problemService, problemRepository, usernameService, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        prefetcher.shutdown();
+    }
+
+
+    @Test
+    @DisplayName("Should warm problem details and test cases once the problem is chosen")
+    void testPrefetchProblem() {
+        UUID problemId = UUID.randomUUID();
+        Problem problem = new Problem();
+        problem.setId(problemId);
+        when(problemRepository.findById(problemId)).thenReturn(Optional.of(problem));
+
+        prefetcher.prefetchProblem(UUID.randomUUID(), problemId);
+
+        await().untilAsserted(() -> verify(s3Service).getOrFetchAllTestCases(problem));
+        verify(problemService).getProblemById(problemId);
+    }
+
+
+    @Test
+    @DisplayName("Should warm both players' usernames")
+    void testPrefetchPlayers() {
+        prefetcher.prefetchPlayers(UUID.randomUUID(), List.of(1L, 2L));
+
+        await().untilAsserted(() -> {
+            verify(usernameService).getUsername(1L);
+            verify(usernameService).getUsername(2L);
+        });
+    }
+}
@@ -0,0 +1,128 @@
+package com.Abhinav.backend.features.problem.search;
+
+import com.Abhinav.backend.features.problem.dto.PaginatedProblemResponse;
+import com.Abhinav.backend.features.problem.dto.ProblemSummaryResponse;
+import com.Abhinav.backend.features.problem.model.Problem;
+import com.Abhinav.backend.features.problem.model.ProblemStatus;
+import com.Abhinav.backend.features.problem.model.Tag;
+import com.Abhinav.backend.features.problem.repository.ProblemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProblemSearchIndexTest {
+
+    @Mock
+    private ProblemRepository problemRepository;
+
+    @InjectMocks
+    private ProblemSearchIndex index;
+
+    private Problem twoSum;
+    private Problem graphColoring;
+    private Problem shortestPath;
+
+
+
+    @BeforeEach
+    void setUp() {
+        twoSum = problem("Two Sum", "two-sum", 100, 1, "Array", "Hash Table");
+        graphColoring = problem("Graph Coloring", "graph-coloring", 300, 2, "Graph", "Greedy");
+        shortestPath = problem("Shortest Path in a Grid", "shortest-path", 200, 3, "Graph", "BFS");
+        when(problemRepository.findAllWithTags()).thenReturn(List.of(twoSum, graphColoring, shortestPath));
+        index.rebuild();
+    }
+
+
+    @Test
+    @DisplayName("Should match title word prefixes, newest first")
+    void testPrefixSearch() {
+        assertEquals(List.of("shortest-path", "two-sum"), slugs(query("s", null, "AND", null, null)));
+        assertEquals(List.of("graph-coloring"), slugs(query("gra col", null, "AND", null, null)));
+    }
+
+
+    @Test
+    @DisplayName("Should combine tags with AND or OR, ignoring case")
+    void testTagFilters() {
+        assertEquals(List.of("shortest-path"), slugs(query(null, List.of("graph", "BFS"), "AND", null, null)));
+        assertEquals(List.of("shortest-path", "graph-coloring"), slugs(query(null, List.of("bfs", "greedy"), "OR", null, null)));
+        assertEquals(List.of(), slugs(query(null, List.of("graph", "unknown"), "AND", null, null)));
+    }
+
+
+    @Test
+    @DisplayName("Should filter by an inclusive points range")
+    void testPointsRange() {
+        assertEquals(List.of("shortest-path", "two-sum"), slugs(query(null, null, "AND", 100, 200)));
+        assertEquals(List.of("graph-coloring"), slugs(query(null, List.of("graph"), "AND", 250, null)));
+    }
+
+
+    @Test
+    @DisplayName("Should pick up edits and deletions from a refresh")
+    void testRefresh() {
+        twoSum.setTitle("Three Sum");
+        when(problemRepository.findWithTagsById(twoSum.getId())).thenReturn(Optional.of(twoSum));
+        index.refresh(twoSum.getId());
+
+        assertEquals(List.of(), slugs(query("two", null, "AND", null, null)));
+        assertEquals(List.of("two-sum"), slugs(query("three", null, "AND", null, null)));
+
+        when(problemRepository.findWithTagsById(graphColoring.getId())).thenReturn(Optional.empty());
+        index.refresh(graphColoring.getId());
+
+        assertEquals(List.of("shortest-path"), slugs(query(null, List.of("graph"), "AND", null, null)));
+    }
+
+
+    @Test
+    @DisplayName("Should page results and report totals")
+    void testPaging() {
+        PaginatedProblemResponse page = index.search(new ProblemSearchQuery(null, null, "AND", null, null), PageRequest.of(1, 2));
+
+        assertEquals(1, page.getProblems().size());
+        assertEquals("two-sum", page.getProblems().get(0).getSlug());
+        assertEquals(2, page.getTotalPages());
+        assertEquals(3, page.getTotalItems());
+    }
+
+
+    private PaginatedProblemResponse query(String text, List<String> tags, String operator, Integer min, Integer max) {
+        return index.search(new ProblemSearchQuery(text, tags, operator, min, max), PageRequest.of(0, 50));
+    }
+
+    private static List<String> slugs(PaginatedProblemResponse response) {
+        return response.getProblems().stream().map(ProblemSummaryResponse::getSlug).collect(Collectors.toList());
+    }
+
+    private static Problem problem(String title, String slug, int points, long createdAtSeconds, String... tagNames) {
+        Set<Tag> tags = Arrays.stream(tagNames).map(name -> Tag.builder().name(name).build()).collect(Collectors.toSet());
+        return Problem.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .slug(slug)
+                .points(points)
+                .status(ProblemStatus.PUBLISHED)
+                .createdAt(Instant.ofEpochSecond(createdAtSeconds))
+                .tags(tags)
+                .build();
+    }
+}
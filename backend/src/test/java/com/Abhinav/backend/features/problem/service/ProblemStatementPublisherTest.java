@@ -0,0 +1,87 @@
+package com.Abhinav.backend.features.problem.service;
+
+import com.Abhinav.backend.features.AWS.service.S3Service;
+import com.Abhinav.backend.features.problem.model.Problem;
+import com.Abhinav.backend.features.problem.model.ProblemStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProblemStatementPublisherTest {
+
+    @Mock
+    private S3Service s3Service;
+
+    private ProblemStatementPublisher publisher;
+
+    private Problem problem;
+
+
+
+    @BeforeEach
+    void setUp() {
+        publisher = new ProblemStatementPublisher(s3Service, new ObjectMapper().registerModule(new JavaTimeModule()),
+                "static-bucket", "https://cdn.example.com/");
+        problem = Problem.builder()
+                .id(UUID.randomUUID())
+                .slug("two-sum")
+                .title("Two Sum")
+                .description("Find two numbers.")
+                .status(ProblemStatus.PUBLISHED)
+                .sampleTestCases("[{\"stdin\":\"1 2\",\"expected_output\":\"3\"}]")
+                .build();
+    }
+
+
+    @Test
+    @DisplayName("Should upload the statement under a content-hashed key and skip re-uploading unchanged content")
+    void testPublishIsContentAddressed() {
+        String key = publisher.publish(problem);
+
+        assertTrue(key.matches("problem-statements/" + problem.getId() + "/[0-9a-f]{16}\\.json"));
+        verify(s3Service).putImmutableObject(eq("static-bucket"), eq(key), any(byte[].class), eq("application/json"));
+
+        problem.setStatementKey(key);
+        assertEquals(key, publisher.publish(problem));
+        verifyNoMoreInteractions(s3Service);
+    }
+
+
+    @Test
+    @DisplayName("Should publish under a new key when the statement changes")
+    void testEditProducesNewKey() {
+        String original = publisher.publish(problem);
+        problem.setStatementKey(original);
+        problem.setDescription("Find two numbers that add up to the target.");
+
+        String edited = publisher.publish(problem);
+
+        assertNotEquals(original, edited);
+        verify(s3Service, times(2)).putImmutableObject(eq("static-bucket"), anyString(), any(byte[].class), eq("application/json"));
+    }
+
+
+    @Test
+    @DisplayName("Should build CDN URLs only when publishing is enabled")
+    void testUrlFor() {
+        assertEquals("https://cdn.example.com/problem-statements/x.json", publisher.urlFor("problem-statements/x.json"));
+        assertNull(publisher.urlFor(null));
+
+        ProblemStatementPublisher disabled = new ProblemStatementPublisher(s3Service, new ObjectMapper(), "", "");
+        assertFalse(disabled.isEnabled());
+        assertNull(disabled.urlFor("problem-statements/x.json"));
+    }
+}
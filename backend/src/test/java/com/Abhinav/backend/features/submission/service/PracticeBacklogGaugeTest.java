@@ -0,0 +1,60 @@
+package com.Abhinav.backend.features.submission.service;
+
+import com.Abhinav.backend.features.AWS.service.SqsService;
+import com.Abhinav.backend.features.submission.model.SubmissionLane;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PracticeBacklogGaugeTest {
+
+    @Mock
+    private SqsService sqsService;
+
+    @InjectMocks
+    private PracticeBacklogGauge gauge;
+
+
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(gauge, "practiceBacklogLimit", 500L);
+    }
+
+
+    @Test
+    @DisplayName("Should report saturation once the practice queue reaches the limit")
+    void testRefresh_QueueAtLimit() {
+        when(sqsService.approximateDepth(SubmissionLane.PRACTICE)).thenReturn(499L, 500L);
+
+        gauge.refresh();
+        assertThat(gauge.isSaturated()).isFalse();
+
+        gauge.refresh();
+        assertThat(gauge.isSaturated()).isTrue();
+    }
+
+
+    @Test
+    @DisplayName("Should keep the last reading when SQS cannot be reached")
+    void testRefresh_SqsFailure() {
+        when(sqsService.approximateDepth(SubmissionLane.PRACTICE))
+                .thenReturn(750L)
+                .thenThrow(new RuntimeException("SQS unavailable"));
+
+        gauge.refresh();
+        gauge.refresh();
+
+        assertThat(gauge.depth()).isEqualTo(750L);
+        assertThat(gauge.isSaturated()).isTrue();
+    }
+}
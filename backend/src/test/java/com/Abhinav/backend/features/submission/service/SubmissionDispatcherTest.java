@@ -0,0 +1,117 @@
+package com.Abhinav.backend.features.submission.service;
+
+import com.Abhinav.backend.features.submission.model.SubmissionLane;
+import com.Abhinav.backend.features.submission.repository.SubmissionOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionDispatcherTest {
+
+    @Mock
+    private SubmissionService submissionService;
+
+    @Mock
+    private SubmissionOutboxRepository outboxRepository;
+
+    @Mock
+    private SubmissionOutboxRelay outboxRelay;
+
+    private SubmissionDispatcher dispatcher;
+
+
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new SubmissionDispatcher(submissionService, outboxRepository, outboxRelay, 2, Duration.ofMinutes(5), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+
+    @Test
+    @DisplayName("Should judge in-process and clear the outbox row when a slot is free")
+    void testDispatch_LocalSlotFree() {
+        UUID submissionId = UUID.randomUUID();
+        when(outboxRepository.lease(eq(submissionId), any(Instant.class), any(Instant.class))).thenReturn(1);
+
+        dispatcher.dispatch(submissionId, SubmissionLane.DUEL);
+
+        await().untilAsserted(() -> verify(outboxRepository).deleteBySubmissionId(submissionId));
+        verify(submissionService).processSubmission(submissionId);
+        verifyNoInteractions(outboxRelay);
+    }
+
+
+    @Test
+    @DisplayName("Should leave the submission to SQS if the relay already claimed it")
+    void testDispatch_RelayWonTheRace() {
+        UUID submissionId = UUID.randomUUID();
+        when(outboxRepository.lease(eq(submissionId), any(Instant.class), any(Instant.class))).thenReturn(0);
+
+        dispatcher.dispatch(submissionId, SubmissionLane.DUEL);
+
+        await().untilAsserted(() -> verify(outboxRepository).lease(eq(submissionId), any(Instant.class), any(Instant.class)));
+        verify(submissionService, never()).processSubmission(any());
+        verify(outboxRepository, never()).deleteBySubmissionId(any());
+    }
+
+
+    @Test
+    @DisplayName("Should hand a submission back to the relay right away when in-process judging fails")
+    void testDispatch_LocalJudgingFails() {
+        UUID submissionId = UUID.randomUUID();
+        when(outboxRepository.lease(eq(submissionId), any(Instant.class), any(Instant.class))).thenReturn(1);
+        doThrow(new RuntimeException("Judge0 unreachable")).when(submissionService).processSubmission(submissionId);
+
+        dispatcher.dispatch(submissionId, SubmissionLane.DUEL);
+
+        await().untilAsserted(() -> verify(outboxRelay).wakeUp());
+        verify(outboxRepository).markDue(eq(submissionId), any(Instant.class));
+        verify(outboxRepository, never()).deleteBySubmissionId(any());
+    }
+
+
+    @Test
+    @DisplayName("Should spill practice submissions to SQS instead of taking the reserved duel slot")
+    void testDispatch_PracticeLeavesReservedSlot() throws Exception {
+        UUID busyId = UUID.randomUUID();
+        UUID spilledId = UUID.randomUUID();
+        CountDownLatch judging = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(outboxRepository.lease(eq(busyId), any(Instant.class), any(Instant.class))).thenReturn(1);
+        doAnswer(inv -> {
+            judging.countDown();
+            release.await();
+            return null;
+        }).when(submissionService).processSubmission(busyId);
+
+        dispatcher.dispatch(busyId, SubmissionLane.DUEL);
+        judging.await();
+        dispatcher.dispatch(spilledId, SubmissionLane.PRACTICE);
+        release.countDown();
+
+        verify(outboxRepository).markDue(eq(spilledId), any(Instant.class));
+        verify(outboxRelay).wakeUp();
+        verify(submissionService, never()).processSubmission(spilledId);
+    }
+}
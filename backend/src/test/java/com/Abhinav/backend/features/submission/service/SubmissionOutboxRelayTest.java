@@ -0,0 +1,182 @@
+package com.Abhinav.backend.features.submission.service;
+
+import com.Abhinav.backend.features.AWS.service.SqsService;
+import com.Abhinav.backend.features.submission.model.SubmissionLane;
+import com.Abhinav.backend.features.submission.model.SubmissionOutbox;
+import com.Abhinav.backend.features.submission.repository.SubmissionOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionOutboxRelayTest {
+
+    @Mock
+    private SqsService sqsService;
+
+    @Mock
+    private SubmissionOutboxRepository outboxRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private SubmissionOutboxRelay relay;
+
+
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "lease", Duration.ofMinutes(1));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+
+    @Test
+    @DisplayName("Should delete rows acknowledged by SQS")
+    @SuppressWarnings("unchecked")
+    void testRelayBatch_AllAcknowledged() {
+        List<SubmissionOutbox> rows = rows(3);
+        when(outboxRepository.claimDue(any(Instant.class), anyInt())).thenReturn(rows);
+        when(sqsService.sendSubmissionBatch(any(SubmissionLane.class), anyList())).thenReturn(ids(rows));
+
+        int claimed = relay.relayBatch();
+
+        ArgumentCaptor<List<SubmissionOutbox>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).deleteAllInBatch(deleted.capture());
+        assertThat(claimed).isEqualTo(3);
+        assertThat(deleted.getValue()).containsExactlyElementsOf(rows);
+    }
+
+
+    @Test
+    @DisplayName("Should reschedule rejected rows with backoff instead of dropping them")
+    @SuppressWarnings("unchecked")
+    void testRelayBatch_PartialFailure() {
+        List<SubmissionOutbox> rows = rows(2);
+        SubmissionOutbox rejected = rows.get(1);
+        when(outboxRepository.claimDue(any(Instant.class), anyInt())).thenReturn(rows);
+        when(sqsService.sendSubmissionBatch(any(SubmissionLane.class), anyList())).thenReturn(Set.of(rows.get(0).getSubmissionId()));
+
+        relay.relayBatch();
+
+        ArgumentCaptor<List<SubmissionOutbox>> deleted = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepository).deleteAllInBatch(deleted.capture());
+        verify(outboxRepository).reschedule(eq(rejected.getId()), nextAttemptAt.capture());
+        verify(outboxRepository, never()).reschedule(eq(rows.get(0).getId()), any());
+        assertThat(deleted.getValue()).containsExactly(rows.get(0));
+        assertThat(rejected.getAttempts()).isEqualTo(1);
+        assertThat(nextAttemptAt.getValue()).isAfter(Instant.now());
+    }
+
+
+    @Test
+    @DisplayName("Should lease claimed rows before sending so no lock is held during the SQS call")
+    @SuppressWarnings("unchecked")
+    void testRelayBatch_LeasesBeforeSending() {
+        List<SubmissionOutbox> rows = rows(2);
+        when(outboxRepository.claimDue(any(Instant.class), anyInt())).thenReturn(rows);
+        when(sqsService.sendSubmissionBatch(any(SubmissionLane.class), anyList())).thenReturn(ids(rows));
+        Instant before = Instant.now();
+
+        relay.relayBatch();
+
+        InOrder order = inOrder(outboxRepository, sqsService, transactionTemplate);
+        ArgumentCaptor<List<UUID>> leased = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Instant> until = ArgumentCaptor.forClass(Instant.class);
+        order.verify(outboxRepository).leaseForRelay(leased.capture(), until.capture());
+        order.verify(sqsService).sendSubmissionBatch(any(SubmissionLane.class), anyList());
+        order.verify(transactionTemplate).executeWithoutResult(any());
+        assertThat(leased.getValue()).containsExactly(rows.get(0).getId(), rows.get(1).getId());
+        assertThat(until.getValue()).isAfterOrEqualTo(before.plus(Duration.ofMinutes(1)));
+    }
+
+
+    @Test
+    @DisplayName("Should split claimed rows into SQS-sized batches")
+    void testRelayBatch_SplitsIntoBatchesOfTen() {
+        List<SubmissionOutbox> rows = rows(25);
+        when(outboxRepository.claimDue(any(Instant.class), anyInt())).thenReturn(rows);
+        when(sqsService.sendSubmissionBatch(any(SubmissionLane.class), anyList())).thenAnswer(inv -> Set.copyOf(inv.<List<UUID>>getArgument(1)));
+
+        relay.relayBatch();
+
+        verify(sqsService, times(3)).sendSubmissionBatch(any(SubmissionLane.class), anyList());
+    }
+
+
+    @Test
+    @DisplayName("Should send duel rows to their own lane")
+    void testRelayBatch_GroupsByLane() {
+        List<SubmissionOutbox> rows = rows(3);
+        rows.get(0).setLane(SubmissionLane.DUEL);
+        when(outboxRepository.claimDue(any(Instant.class), anyInt())).thenReturn(rows);
+        when(sqsService.sendSubmissionBatch(any(SubmissionLane.class), anyList())).thenAnswer(inv -> Set.copyOf(inv.<List<UUID>>getArgument(1)));
+
+        relay.relayBatch();
+
+        verify(sqsService).sendSubmissionBatch(SubmissionLane.DUEL, List.of(rows.get(0).getSubmissionId()));
+        verify(sqsService).sendSubmissionBatch(SubmissionLane.PRACTICE, List.of(rows.get(1).getSubmissionId(), rows.get(2).getSubmissionId()));
+    }
+
+
+    @Test
+    @DisplayName("Should skip the database when idle and no sweep is due")
+    void testRelay_IdleSkipsDatabase() {
+        ReflectionTestUtils.setField(relay, "sweepIntervalMs", 60_000L);
+        relay.relay();
+        clearInvocations(transactionTemplate);
+
+        relay.relay();
+
+        verifyNoInteractions(transactionTemplate);
+    }
+
+
+    private List<SubmissionOutbox> rows(int count) {
+        List<SubmissionOutbox> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(SubmissionOutbox.builder()
+                    .id(UUID.randomUUID())
+                    .submissionId(UUID.randomUUID())
+                    .nextAttemptAt(Instant.now())
+                    .build());
+        }
+        return rows;
+    }
+
+    private Set<UUID> ids(List<SubmissionOutbox> rows) {
+        return rows.stream().map(SubmissionOutbox::getSubmissionId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,172 @@
+package com.Abhinav.backend.features.submission.service;
+
+import com.Abhinav.backend.features.AWS.service.S3Service;
+import com.Abhinav.backend.features.authentication.service.ProfileAggregateService;
+import com.Abhinav.backend.features.judge0.service.Judge0Service;
+import com.Abhinav.backend.features.match.service.MatchService;
+import com.Abhinav.backend.features.notification.service.NotificationService;
+import com.Abhinav.backend.features.problem.model.Problem;
+import com.Abhinav.backend.features.problem.repository.ProblemRepository;
+import com.Abhinav.backend.features.submission.dto.SubmissionResultDTO;
+import com.Abhinav.backend.features.submission.events.SubmissionJudgedEvent;
+import com.Abhinav.backend.features.submission.model.Language;
+import com.Abhinav.backend.features.submission.model.Submission;
+import com.Abhinav.backend.features.submission.model.SubmissionStatus;
+import com.Abhinav.backend.features.submission.repository.LegacySubmissionTextReader;
+import com.Abhinav.backend.features.submission.repository.SubmissionBlobRepository;
+import com.Abhinav.backend.features.submission.repository.SubmissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionServiceImplTest {
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private MatchService matchService;
+
+    @Mock
+    private Judge0Service judge0Service;
+
+    @Mock
+    private ProblemRepository problemRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private SubmissionBlobRepository submissionBlobRepository;
+
+    @Mock
+    private LegacySubmissionTextReader legacySubmissionText;
+
+    @Mock
+    private SubmissionVerdictWriter verdictWriter;
+
+    @Mock
+    private ProfileAggregateService profileAggregateService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SubmissionServiceImpl submissionService;
+
+    private UUID submissionId;
+
+
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(submissionService, "claimTimeout", Duration.ofMinutes(10));
+        submissionId = UUID.randomUUID();
+    }
+
+
+    @Test
+    @DisplayName("Should judge a claimed submission and persist the verdict conditionally")
+    void testProcessSubmission_Success() {
+        Submission submission = submission(SubmissionStatus.PROCESSING);
+        Problem problem = new Problem();
+        problem.setId(submission.getProblemId());
+
+        when(submissionRepository.claimForProcessing(eq(submissionId), any(Instant.class), any(Instant.class), any(), any())).thenReturn(1);
+        when(submissionRepository.findById(submissionId)).thenReturn(Optional.of(submission));
+        when(submissionBlobRepository.findCodeBySubmissionId(submissionId)).thenReturn(Optional.of("print(1)"));
+        when(problemRepository.findById(submission.getProblemId())).thenReturn(Optional.of(problem));
+        when(s3Service.getOrFetchAllTestCases(problem)).thenReturn(List.of(new Judge0Service.TestCase("1", "1")));
+        when(judge0Service.executeCode(anyString(), anyString(), anyList(), any(), any()))
+                .thenReturn(SubmissionResultDTO.builder().status(SubmissionStatus.ACCEPTED).runtimeMs(12).memoryKb(512).build());
+        when(verdictWriter.write(submission)).thenReturn(SubmissionVerdictWriter.Outcome.FIRST_SOLVE);
+
+        submissionService.processSubmission(submissionId);
+
+        verify(notificationService).notifyUser(eq(7L), eq(submissionId), any(SubmissionResultDTO.class));
+        verify(verdictWriter).write(argThat(written -> written.getStatus() == SubmissionStatus.ACCEPTED
+                && written.getRuntimeMs() == 12 && written.getMemoryKb() == 512));
+        verify(eventPublisher).publishEvent(any(SubmissionJudgedEvent.class));
+        verify(submissionRepository, never()).save(any());
+    }
+
+
+    @Test
+    @DisplayName("Should skip a redelivered submission that already has a verdict")
+    void testProcessSubmission_AlreadyJudged() {
+        when(submissionRepository.claimForProcessing(eq(submissionId), any(Instant.class), any(Instant.class), any(), any())).thenReturn(0);
+        when(submissionRepository.findById(submissionId)).thenReturn(Optional.of(submission(SubmissionStatus.ACCEPTED)));
+
+        submissionService.processSubmission(submissionId);
+
+        verifyNoInteractions(judge0Service, notificationService);
+    }
+
+
+    @Test
+    @DisplayName("Should fail so the message is retried while another worker holds a live claim")
+    void testProcessSubmission_ClaimedElsewhere() {
+        when(submissionRepository.claimForProcessing(eq(submissionId), any(Instant.class), any(Instant.class), any(), any())).thenReturn(0);
+        when(submissionRepository.findById(submissionId)).thenReturn(Optional.of(submission(SubmissionStatus.PROCESSING)));
+
+        assertThatThrownBy(() -> submissionService.processSubmission(submissionId))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(judge0Service);
+    }
+
+
+    @Test
+    @DisplayName("Should not notify when another worker finalized the submission first")
+    void testProcessSubmission_LostTheRace() {
+        Submission submission = submission(SubmissionStatus.PROCESSING);
+        Problem problem = new Problem();
+        problem.setId(submission.getProblemId());
+
+        when(submissionRepository.claimForProcessing(eq(submissionId), any(Instant.class), any(Instant.class), any(), any())).thenReturn(1);
+        when(submissionRepository.findById(submissionId)).thenReturn(Optional.of(submission));
+        when(submissionBlobRepository.findCodeBySubmissionId(submissionId)).thenReturn(Optional.of("print(1)"));
+        when(problemRepository.findById(submission.getProblemId())).thenReturn(Optional.of(problem));
+        when(s3Service.getOrFetchAllTestCases(problem)).thenReturn(List.of(new Judge0Service.TestCase("1", "1")));
+        when(judge0Service.executeCode(anyString(), anyString(), anyList(), any(), any()))
+                .thenReturn(SubmissionResultDTO.builder().status(SubmissionStatus.WRONG_ANSWER).build());
+        when(verdictWriter.write(any())).thenReturn(SubmissionVerdictWriter.Outcome.DISCARDED);
+
+        submissionService.processSubmission(submissionId);
+
+        verifyNoInteractions(notificationService, matchService, profileAggregateService, eventPublisher);
+    }
+
+
+    private Submission submission(SubmissionStatus status) {
+        return Submission.builder()
+                .id(submissionId)
+                .userId(7L)
+                .problemId(UUID.randomUUID())
+                .language(Language.PYTHON)
+                .status(status)
+                .build();
+    }
+}
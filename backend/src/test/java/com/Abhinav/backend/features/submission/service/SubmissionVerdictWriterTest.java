@@ -0,0 +1,118 @@
+package com.Abhinav.backend.features.submission.service;
+
+import com.Abhinav.backend.features.authentication.service.ProfileAggregateService;
+import com.Abhinav.backend.features.submission.model.Submission;
+import com.Abhinav.backend.features.submission.model.SubmissionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionVerdictWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ProfileAggregateService profileAggregateService;
+
+    @InjectMocks
+    private SubmissionVerdictWriter verdictWriter;
+
+
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+
+    @Test
+    @DisplayName("Should report the verdict as applied when the conditional update hit the row")
+    void testWrite_Applied() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenReturn(new int[][]{{1}});
+
+        SubmissionVerdictWriter.Outcome outcome = verdictWriter.write(submission(SubmissionStatus.ACCEPTED, null));
+
+        assertThat(outcome).isEqualTo(SubmissionVerdictWriter.Outcome.APPLIED);
+    }
+
+
+    @Test
+    @DisplayName("Should store stderr in the blob table only for verdicts that landed")
+    void testWrite_StderrGoesToBlob() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenReturn(new int[][]{{1}});
+
+        SubmissionVerdictWriter.Outcome outcome = verdictWriter.write(submission(SubmissionStatus.RUNTIME_ERROR, "boom"));
+
+        assertThat(outcome.applied()).isTrue();
+        verify(jdbcTemplate).batchUpdate(contains("submission_blobs"), anyCollection(), eq(1), any());
+    }
+
+
+    @Test
+    @DisplayName("Should report the verdict as discarded when the submission already left PROCESSING")
+    void testWrite_AlreadyFinalized() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenReturn(new int[][]{{0}});
+
+        SubmissionVerdictWriter.Outcome outcome = verdictWriter.write(submission(SubmissionStatus.WRONG_ANSWER, null));
+
+        assertThat(outcome).isEqualTo(SubmissionVerdictWriter.Outcome.DISCARDED);
+        verifyNoInteractions(profileAggregateService);
+    }
+
+
+    @Test
+    @DisplayName("Should record the profile aggregates inside the verdict transaction and report a first solve")
+    void testWrite_FirstSolve() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenReturn(new int[][]{{1}});
+        Submission submission = submission(SubmissionStatus.ACCEPTED, null);
+        when(profileAggregateService.recordVerdict(7L, submission.getProblemId(), SubmissionStatus.ACCEPTED)).thenReturn(true);
+
+        SubmissionVerdictWriter.Outcome outcome = verdictWriter.write(submission);
+
+        assertThat(outcome).isEqualTo(SubmissionVerdictWriter.Outcome.FIRST_SOLVE);
+        verify(transactionTemplate, times(1)).execute(any());
+    }
+
+
+    @Test
+    @DisplayName("Should surface a failed batch to the caller")
+    void testWrite_BatchFailed() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> verdictWriter.write(submission(SubmissionStatus.ACCEPTED, null)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+
+    private static Submission submission(SubmissionStatus status, String stderr) {
+        return Submission.builder()
+                .id(UUID.randomUUID())
+                .userId(7L)
+                .problemId(UUID.randomUUID())
+                .status(status)
+                .runtimeMs(12)
+                .memoryKb(512)
+                .stderr(stderr)
+                .build();
+    }
+}
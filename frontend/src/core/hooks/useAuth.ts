@@ -7,6 +7,7 @@ import { fetchMyPermissions } from '../../features/auth/services/authService';
 interface DecodedToken {
   sub: string;
   userId: number;
+  username?: string;
   roles: string[];
   isTwoFactorEnabled: boolean;
   iat: number;
@@ -73,7 +74,8 @@ export const useAuth = () => {
       ? { 
           id: decodedToken.userId,
           email: decodedToken.sub, 
-          username: decodedToken.sub.split('@')[0],
+          // Tokens issued before the username claim existed fall back to the email prefix.
+          username: decodedToken.username ?? decodedToken.sub.split('@')[0],
           roles: decodedToken.roles,
           twoFactorEnabled: decodedToken.isTwoFactorEnabled 
         } 
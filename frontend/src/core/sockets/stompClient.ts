@@ -93,6 +93,10 @@ class StompService {
     public subscribeToSubmissionResult(submissionId: string, onResult: (result: any) => void): StompSubscription {
         return this.subscribe(`/topic/submission-result/${submissionId}`, onResult);
     }
+
+    public subscribeToSubmissionProgress(submissionId: string, onProgress: (progress: any) => void): StompSubscription {
+        return this.subscribe(`/topic/submission-result/${submissionId}/progress`, onProgress);
+    }
     
     public subscribeToCountdown(matchId: string, onEvent: (event: any) => void): StompSubscription {
         return this.subscribe(`/topic/match/${matchId}/countdown`, onEvent);
@@ -76,7 +76,7 @@ const ProfilePage = () => {
     const { user } = useAuth();
     const { theme } = useTheme();
     const isDark = theme === 'dark';
-    const username = user?.email.split('@')[0] || 'User';
+    const username = user?.username || 'User';
 
     return (
         <div className={`container mx-auto max-w-5xl px-4 py-8 sm:py-12 space-y-8 transition-colors duration-300 ${isDark ? 'text-white' : 'text-gray-900'}`}>
@@ -32,16 +32,15 @@ const PlayerResultDisplay = ({ }: { playerResult: PlayerResult }) => (
 
 interface MatchResultOverlayProps {
   result: MatchResult;
-  currentUserEmail?: string;
+  currentUsername?: string;
 }
 
-export const MatchResultOverlay: React.FC<MatchResultOverlayProps> = ({ result, currentUserEmail }) => {
+export const MatchResultOverlay: React.FC<MatchResultOverlayProps> = ({ result, currentUsername }) => {
   const [width, height] = useWindowSize();
 
-  const currentUserUsername = currentUserEmail?.split('@')[0];
   let outcome: 'WIN' | 'LOSS' | 'DRAW' = 'DRAW';
   if (result.winnerUsername) {
-      outcome = result.winnerUsername === currentUserUsername ? 'WIN' : 'LOSS';
+      outcome = result.winnerUsername === currentUsername ? 'WIN' : 'LOSS';
   }
 
 
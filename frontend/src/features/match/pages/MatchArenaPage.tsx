@@ -318,7 +318,7 @@ const MatchArenaPage: React.FC = () => {
             )}
             
             {matchState === 'COMPLETED' && matchResult && (
-                <MatchResultOverlay result={matchResult} currentUserEmail={user?.email} />
+                <MatchResultOverlay result={matchResult} currentUsername={user?.username} />
             )}
 
             {isModalOpen && (
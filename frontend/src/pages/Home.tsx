@@ -72,7 +72,7 @@ const Home: React.FC = () => {
     return <div className="flex justify-center items-center pt-24"><Loader2 className="animate-spin text-[#F97316]" size={48} /></div>;
   }
 
-  const username = user?.email ? user.email.split('@')[0] : "Coder";
+  const username = user?.username || "Coder";
 
   return (
     <div className="space-y-10 pb-20">
@@ -3,10 +3,30 @@ echo "Initializing LocalStack AWS infrastructure..."
 
 awslocal sqs create-queue --queue-name submission-dlq
 awslocal sqs create-queue --queue-name submission-queue
+awslocal sqs create-queue --queue-name submission-priority-queue
 
 awslocal sqs create-queue --queue-name match-watch-queue
 awslocal sqs create-queue --queue-name match-result-queue
 
 awslocal s3 mb s3://testcase-bucket
 
+# Stands in for the CloudFront-fronted frontend bucket that serves published problem statements.
+awslocal s3 mb s3://static-content-bucket
+awslocal s3api put-bucket-policy --bucket static-content-bucket --policy '{
+  "Version": "2012-10-17",
+  "Statement": [{
+    "Effect": "Allow",
+    "Principal": "*",
+    "Action": "s3:GetObject",
+    "Resource": "arn:aws:s3:::static-content-bucket/problem-statements/*"
+  }]
+}'
+awslocal s3api put-bucket-cors --bucket static-content-bucket --cors-configuration '{
+  "CORSRules": [{
+    "AllowedOrigins": ["*"],
+    "AllowedMethods": ["GET", "HEAD"],
+    "AllowedHeaders": ["*"]
+  }]
+}'
+
 echo "LocalStack initialization complete!"
\ No newline at end of file
@@ -1,48 +1,115 @@
 package com.codingplatform.sentinel.client;
 
 import com.codingplatform.sentinel.dto.CodeforcesResponse;
+import com.codingplatform.sentinel.repository.CodeforcesResponseCache;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class CodeforcesApiClient {
 
     private static final Logger log = LoggerFactory.getLogger(CodeforcesApiClient.class);
     private final RestClient restClient;
+    private final CodeforcesResponseCache responseCache;
+    private final MeterRegistry meterRegistry;
+    private final Counter fallbackCounter;
 
-    public CodeforcesApiClient(RestClient.Builder builder) {
+    private static final String REQUEST_TIMER = "sentinel.codeforces.requests";
+    private static final int FROM = 1;
+    private static final int COUNT = 10;
+
+    public CodeforcesApiClient(RestClient.Builder builder,
+                               CodeforcesResponseCache responseCache,
+                               MeterRegistry meterRegistry) {
         this.restClient = builder.baseUrl("https://codeforces.com/api").build();
+        this.responseCache = responseCache;
+        this.meterRegistry = meterRegistry;
+        this.fallbackCounter = Counter.builder("sentinel.codeforces.fallbacks")
+                .description("Calls answered by the circuit-breaker fallback instead of Codeforces")
+                .register(meterRegistry);
     }
 
+    /**
+     * Returns the handle's most recent submissions, newest first, stopping at the first one
+     * created before {@code sinceEpochSeconds}. The unfiltered list is what gets cached, so callers
+     * with different start times share one Codeforces call.
+     */
     @CircuitBreaker(name = "codeforces-api", fallbackMethod = "fallbackGetSubmissions")
-    public List<CodeforcesResponse.CfSubmission> getRecentSubmissions(String handle) {
+    public List<CodeforcesResponse.CfSubmission> getRecentSubmissions(String handle, long sinceEpochSeconds) {
+        if (responseCache.isInvalidHandle(handle)) {
+            throw new InvalidHandleException(handle);
+        }
+
+        Optional<List<CodeforcesResponse.CfSubmission>> cached = responseCache.get(handle);
+        if (cached.isPresent()) {
+            log.debug("Serving cached submissions for handle: {}", handle);
+            return createdSince(cached.get(), sinceEpochSeconds);
+        }
+
         log.info("Fetching submissions for handle: {}", handle);
 
-        CodeforcesResponse response = restClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/user.status")
-                        .queryParam("handle", handle)
-                        .queryParam("from", 1)
-                        .queryParam("count", 10)
-                        .build())
-                .retrieve()
-                .body(CodeforcesResponse.class);
-
-        if (response != null && "OK".equals(response.status()) && response.result() != null) {
-            return response.result();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+
+        try {
+            CodeforcesResponse response = restClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/user.status")
+                            .queryParam("handle", handle)
+                            .queryParam("from", FROM)
+                            .queryParam("count", COUNT)
+                            .build())
+                    .retrieve()
+                    .body(CodeforcesResponse.class);
+
+            if (response != null && "OK".equals(response.status()) && response.result() != null) {
+                outcome = "ok";
+                responseCache.put(handle, response.result());
+                return createdSince(response.result(), sinceEpochSeconds);
+            }
+
+            outcome = "failed";
+            return Collections.emptyList();
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().isSameCodeAs(HttpStatus.BAD_REQUEST) || e.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                outcome = "invalid_handle";
+                responseCache.markInvalidHandle(handle);
+                throw new InvalidHandleException(handle);
+            }
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(REQUEST_TIMER)
+                    .description("Latency of Codeforces user.status calls")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
+    }
 
-        return Collections.emptyList();
+    public List<CodeforcesResponse.CfSubmission> fallbackGetSubmissions(String handle, long sinceEpochSeconds, InvalidHandleException e) {
+        throw e;
     }
 
-    public List<CodeforcesResponse.CfSubmission> fallbackGetSubmissions(String handle, Throwable t) {
+    public List<CodeforcesResponse.CfSubmission> fallbackGetSubmissions(String handle, long sinceEpochSeconds, Throwable t) {
         log.warn("⚠️ Codeforces API unreachable for {}. Reason: {}", handle, t.getMessage());
+        fallbackCounter.increment();
         return Collections.emptyList();
     }
-}
\ No newline at end of file
+
+    private static List<CodeforcesResponse.CfSubmission> createdSince(List<CodeforcesResponse.CfSubmission> submissions, long sinceEpochSeconds) {
+        return submissions.stream()
+                .takeWhile(submission -> submission.creationTimeSeconds() >= sinceEpochSeconds)
+                .toList();
+    }
+}
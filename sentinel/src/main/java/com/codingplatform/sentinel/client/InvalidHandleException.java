@@ -0,0 +1,8 @@
+package com.codingplatform.sentinel.client;
+
+public class InvalidHandleException extends RuntimeException {
+
+    public InvalidHandleException(String handle) {
+        super("FAILED: handle '" + handle + "' is invalid or private");
+    }
+}
@@ -1,28 +1,85 @@
 package com.codingplatform.sentinel.producer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.awspring.cloud.sqs.operations.SqsTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Buffers verdict updates and ships them to the result queue in SendMessageBatch calls.
+ * The polling loop only pays for an in-memory enqueue; a scheduled flusher drains the buffer
+ * every linger window, and failed entries are re-queued with exponential backoff.
+ * The Codeforces submission ID travels as the batch entry ID and as a message attribute so the
+ * backend can drop redeliveries.
+ */
 @Service
 public class MatchStatusProducer {
 
     private static final Logger log = LoggerFactory.getLogger(MatchStatusProducer.class);
-    private final SqsTemplate sqsTemplate;
+    private final SqsAsyncClient sqsAsyncClient;
     private final ObjectMapper objectMapper;
 
+    private final Timer verdictLagTimer;
+    private final Counter publishedCounter;
+    private final Counter retryCounter;
+    private final Counter droppedCounter;
+
+    private final DelayQueue<PendingUpdate> buffer = new DelayQueue<>();
+    private volatile String queueUrl;
+
     private static final String RESULT_QUEUE = "match-result-queue";
+    private static final String SUBMISSION_ID_ATTRIBUTE = "submissionId";
+
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long BASE_RETRY_DELAY_MS = 500;
+    private static final long MAX_RETRY_DELAY_MS = 30000;
 
-    public MatchStatusProducer(SqsTemplate sqsTemplate, ObjectMapper objectMapper) {
-        this.sqsTemplate = sqsTemplate;
+    public MatchStatusProducer(SqsAsyncClient sqsAsyncClient, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.sqsAsyncClient = sqsAsyncClient;
         this.objectMapper = objectMapper;
+
+        this.verdictLagTimer = Timer.builder("sentinel.verdict.lag")
+                .description("Time from Codeforces submission creation to SQS publish")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("sentinel.producer.published")
+                .description("Match updates acknowledged by SQS")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("sentinel.producer.retries")
+                .description("Match updates re-queued after a failed send")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("sentinel.producer.dropped")
+                .description("Match updates abandoned after exhausting retries")
+                .register(meterRegistry);
+        Gauge.builder("sentinel.producer.buffered", buffer, DelayQueue::size)
+                .description("Match updates waiting to be sent")
+                .register(meterRegistry);
     }
 
-    public void sendMatchUpdate(UUID matchId, String userHandle, String problemId, String verdict, long timeConsumed, long memoryConsumed) {
+    public void sendMatchUpdate(UUID matchId, long submissionId, long creationTimeSeconds, String userHandle, String problemId, String verdict, long timeConsumed, long memoryConsumed) {
         try {
             MatchUpdateEvent event = new MatchUpdateEvent(
                     matchId,
@@ -31,17 +88,153 @@ public class MatchStatusProducer {
                     verdict,
                     System.currentTimeMillis(),
                     timeConsumed,
-                    memoryConsumed
+                    memoryConsumed,
+                    submissionId
             );
 
             String jsonPayload = objectMapper.writeValueAsString(event);
 
-            sqsTemplate.send(RESULT_QUEUE, jsonPayload);
+            buffer.add(new PendingUpdate(submissionId, creationTimeSeconds, jsonPayload, 0, System.currentTimeMillis()));
+
+            log.info("📥 QUEUED EVENT: Match {} | User {} | Verdict {} | Submission {}", matchId, userHandle, verdict, submissionId);
+
+        } catch (Exception e) {
+            log.error("❌ FAILED to serialize match update event for submission {}", submissionId, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sentinel.producer.linger-ms:200}")
+    public void flush() {
+        drainAndSend();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            drainAndSend().get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.error("❌ Could not flush {} pending match updates on shutdown", buffer.size(), e);
+        }
+    }
+
+    private CompletableFuture<Void> drainAndSend() {
+        List<PendingUpdate> drained = new ArrayList<>();
+        buffer.drainTo(drained);
+        if (drained.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-            log.info("📤 SENT EVENT: Match {} | User {} | Verdict {}", matchId, userHandle, verdict);
+        Map<Long, PendingUpdate> ready = new LinkedHashMap<>();
+        for (PendingUpdate update : drained) {
+            ready.putIfAbsent(update.submissionId(), update);
+        }
+        List<PendingUpdate> pending = new ArrayList<>(ready.values());
 
+        String url;
+        try {
+            url = resolveQueueUrl();
         } catch (Exception e) {
-            log.error("❌ FAILED to send match update event", e);
+            log.error("❌ Could not resolve queue URL for {}. Re-queueing {} updates.", RESULT_QUEUE, pending.size(), e);
+            pending.forEach(this::retry);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i += MAX_BATCH_SIZE) {
+            inFlight.add(sendBatch(url, List.copyOf(pending.subList(i, Math.min(i + MAX_BATCH_SIZE, pending.size())))));
+        }
+        return CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0]));
+    }
+
+    private CompletableFuture<Void> sendBatch(String url, List<PendingUpdate> batch) {
+        Map<String, PendingUpdate> byEntryId = new LinkedHashMap<>();
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>();
+
+        for (PendingUpdate update : batch) {
+            String entryId = String.valueOf(update.submissionId());
+            byEntryId.put(entryId, update);
+            entries.add(SendMessageBatchRequestEntry.builder()
+                    .id(entryId)
+                    .messageBody(update.payload())
+                    .messageAttributes(Map.of(SUBMISSION_ID_ATTRIBUTE, MessageAttributeValue.builder()
+                            .dataType("Number")
+                            .stringValue(entryId)
+                            .build()))
+                    .build());
+        }
+
+        SendMessageBatchRequest request = SendMessageBatchRequest.builder()
+                .queueUrl(url)
+                .entries(entries)
+                .build();
+
+        return sqsAsyncClient.sendMessageBatch(request)
+                .handle((response, error) -> {
+                    if (error != null) {
+                        log.error("⚠️ Batch send of {} match updates failed. Retrying.", batch.size(), error);
+                        batch.forEach(this::retry);
+                        return null;
+                    }
+
+                    long publishedAt = System.currentTimeMillis();
+                    Set<String> failedIds = new HashSet<>();
+
+                    response.failed().forEach(failure -> {
+                        failedIds.add(failure.id());
+                        log.warn("⚠️ Submission {} rejected by SQS ({}: {}). Retrying.", failure.id(), failure.code(), failure.message());
+                        retry(byEntryId.get(failure.id()));
+                    });
+
+                    byEntryId.forEach((entryId, update) -> {
+                        if (failedIds.contains(entryId)) return;
+                        publishedCounter.increment();
+                        if (update.creationTimeSeconds() > 0) {
+                            verdictLagTimer.record(Math.max(0, publishedAt - update.creationTimeSeconds() * 1000), TimeUnit.MILLISECONDS);
+                        }
+                    });
+
+                    log.info("📤 SENT BATCH: {} delivered, {} failed", response.successful().size(), response.failed().size());
+                    return null;
+                });
+    }
+
+    private void retry(PendingUpdate update) {
+        if (update == null) return;
+
+        int attempt = update.attempt() + 1;
+        if (attempt >= MAX_ATTEMPTS) {
+            log.error("❌ DROPPED match update for submission {} after {} attempts", update.submissionId(), attempt);
+            droppedCounter.increment();
+            return;
+        }
+
+        retryCounter.increment();
+
+        long delay = Math.min(BASE_RETRY_DELAY_MS << (attempt - 1), MAX_RETRY_DELAY_MS);
+        buffer.add(new PendingUpdate(update.submissionId(), update.creationTimeSeconds(), update.payload(), attempt, System.currentTimeMillis() + delay));
+    }
+
+    private String resolveQueueUrl() {
+        String url = queueUrl;
+        if (url == null) {
+            url = sqsAsyncClient.getQueueUrl(GetQueueUrlRequest.builder().queueName(RESULT_QUEUE).build())
+                    .join()
+                    .queueUrl();
+            queueUrl = url;
+        }
+        return url;
+    }
+
+    private record PendingUpdate(long submissionId, long creationTimeSeconds, String payload, int attempt, long readyAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
         }
     }
 
@@ -52,6 +245,7 @@ public class MatchStatusProducer {
             String verdict,
             long timestamp,
             long timeConsumedMillis,
-            long memoryConsumedBytes
+            long memoryConsumedBytes,
+            long submissionId
     ) {}
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.codingplatform.sentinel.repository;
+
+import com.codingplatform.sentinel.dto.CodeforcesResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Redis-backed cache of Codeforces user.status responses shared by every Sentinel replica.
+ * Responses are keyed by handle alone and hold the full recent list, so matches that watch the
+ * same handle from different start times share one entry and each filters it for itself. Positive
+ * entries expire before the shortest re-poll interval, so they only coalesce calls made in the same
+ * tick, by any replica, and the next poll of a handle always sees fresh verdicts. Invalid or private
+ * handles are remembered long enough to cover a whole match.
+ */
+@Service
+public class CodeforcesResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CodeforcesResponseCache.class);
+
+    private static final String STATUS_PREFIX = "sentinel:cf:status:";
+    private static final String INVALID_PREFIX = "sentinel:cf:invalid:";
+
+    private static final TypeReference<List<CodeforcesResponse.CfSubmission>> SUBMISSIONS_TYPE = new TypeReference<>() {};
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration responseTtl;
+    private final Duration invalidHandleTtl;
+
+    public CodeforcesResponseCache(StringRedisTemplate stringRedisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${sentinel.codeforces.cache.response-ttl:4s}") Duration responseTtl,
+                                   @Value("${sentinel.codeforces.cache.invalid-handle-ttl:3h}") Duration invalidHandleTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.responseTtl = responseTtl;
+        this.invalidHandleTtl = invalidHandleTtl;
+    }
+
+    public Optional<List<CodeforcesResponse.CfSubmission>> get(String handle) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(STATUS_PREFIX + normalize(handle));
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, SUBMISSIONS_TYPE));
+        } catch (Exception e) {
+            log.warn("⚠️ Response cache read failed for {}. Treating as miss.", handle, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(String handle, List<CodeforcesResponse.CfSubmission> submissions) {
+        try {
+            stringRedisTemplate.opsForValue().set(STATUS_PREFIX + normalize(handle), objectMapper.writeValueAsString(submissions), responseTtl);
+        } catch (Exception e) {
+            log.warn("⚠️ Response cache write failed for {}", handle, e);
+        }
+    }
+
+    public boolean isInvalidHandle(String handle) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(INVALID_PREFIX + normalize(handle)));
+        } catch (Exception e) {
+            log.warn("⚠️ Negative cache read failed for {}", handle, e);
+            return false;
+        }
+    }
+
+    public void markInvalidHandle(String handle) {
+        try {
+            stringRedisTemplate.opsForValue().set(INVALID_PREFIX + normalize(handle), "1", invalidHandleTtl);
+        } catch (Exception e) {
+            log.warn("⚠️ Negative cache write failed for {}", handle, e);
+        }
+    }
+
+    private String normalize(String handle) {
+        return handle.toLowerCase(Locale.ROOT);
+    }
+}
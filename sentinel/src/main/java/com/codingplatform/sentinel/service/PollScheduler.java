@@ -0,0 +1,102 @@
+package com.codingplatform.sentinel.service;
+
+import com.codingplatform.sentinel.dto.MonitoredMatch;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a next-poll time for every monitored (match, handle) pair and hands out the most
+ * overdue ones first, so the per-tick API budget goes to handles whose verdicts matter now.
+ */
+@Component
+public class PollScheduler {
+
+    private static final long HOT_INTERVAL = 5000;
+    private static final long MAX_INTERVAL = 300000;
+    private static final long IDLE_MULTIPLIER = 4;
+
+    private static final long ACTIVITY_WINDOW_SECONDS = 300;
+    private static final long FINAL_WINDOW_SECONDS = 300;
+
+    private final Map<String, HandleState> states = new ConcurrentHashMap<>();
+
+    public List<PollTarget> nextTargets(List<MonitoredMatch> matches, long nowMillis, int budget) {
+        Set<String> liveKeys = new HashSet<>();
+        PriorityQueue<PollTarget> queue = new PriorityQueue<>(
+                Comparator.comparingLong(PollTarget::dueAtMillis)
+                        .thenComparingLong(target -> target.match().endTimeEpochSeconds())
+        );
+
+        for (MonitoredMatch match : matches) {
+            for (String handle : match.userHandles()) {
+                String key = key(match.matchId(), handle);
+                liveKeys.add(key);
+
+                HandleState state = states.get(key);
+                long dueAt = state == null ? 0 : state.nextPollAtMillis();
+                if (dueAt <= nowMillis) {
+                    queue.add(new PollTarget(match, handle, dueAt));
+                }
+            }
+        }
+
+        states.keySet().retainAll(liveKeys);
+
+        List<PollTarget> targets = new ArrayList<>();
+        while (!queue.isEmpty() && targets.size() < budget) {
+            targets.add(queue.poll());
+        }
+        return targets;
+    }
+
+    public void recordPoll(MonitoredMatch match, String handle, long nowMillis, long baseInterval,
+                           long lastSubmissionEpochSeconds, boolean verdictPending) {
+        String key = key(match.matchId(), handle);
+        HandleState previous = states.get(key);
+
+        long lastActivity = Math.max(lastSubmissionEpochSeconds, previous == null ? 0 : previous.lastActivityEpochSeconds());
+        long nowEpoch = nowMillis / 1000;
+
+        long interval;
+        if (verdictPending) {
+            interval = Math.max(HOT_INTERVAL, baseInterval / 3);
+        } else if (match.endTimeEpochSeconds() - nowEpoch <= FINAL_WINDOW_SECONDS) {
+            interval = Math.max(HOT_INTERVAL, baseInterval / 2);
+        } else if (lastActivity > 0 && nowEpoch - lastActivity <= ACTIVITY_WINDOW_SECONDS) {
+            interval = baseInterval;
+        } else {
+            interval = Math.min(baseInterval * IDLE_MULTIPLIER, MAX_INTERVAL);
+        }
+
+        long lastUsefulPoll = match.endTimeEpochSeconds() * 1000 - HOT_INTERVAL;
+        long nextPoll = Math.max(nowMillis + HOT_INTERVAL, Math.min(nowMillis + interval, lastUsefulPoll));
+
+        states.put(key, new HandleState(nextPoll, lastActivity));
+    }
+
+    public void park(MonitoredMatch match, String handle) {
+        states.put(key(match.matchId(), handle), new HandleState(Long.MAX_VALUE, 0));
+    }
+
+    public void forget(UUID matchId) {
+        String prefix = matchId + ":";
+        states.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private String key(UUID matchId, String handle) {
+        return matchId + ":" + handle;
+    }
+
+    private record HandleState(long nextPollAtMillis, long lastActivityEpochSeconds) {}
+
+    public record PollTarget(MonitoredMatch match, String handle, long dueAtMillis) {}
+}
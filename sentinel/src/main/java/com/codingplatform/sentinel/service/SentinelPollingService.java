@@ -1,17 +1,26 @@
 package com.codingplatform.sentinel.service;
 
 import com.codingplatform.sentinel.client.CodeforcesApiClient;
+import com.codingplatform.sentinel.client.InvalidHandleException;
 import com.codingplatform.sentinel.dto.CodeforcesResponse;
 import com.codingplatform.sentinel.dto.MonitoredMatch;
 import com.codingplatform.sentinel.producer.MatchStatusProducer;
 import com.codingplatform.sentinel.repository.MatchMonitoringService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class SentinelPollingService {
@@ -21,6 +30,11 @@ public class SentinelPollingService {
     private final MatchMonitoringService monitoringService;
     private final CodeforcesApiClient apiClient;
     private final MatchStatusProducer producer;
+    private final PollScheduler pollScheduler;
+    private final Timer pollTimer;
+
+    private final AtomicInteger activeMatchCount = new AtomicInteger();
+    private final AtomicInteger activeHandleCount = new AtomicInteger();
 
     private long nextPollTime = 0;
     private long currentBackoff = 15000;
@@ -28,13 +42,32 @@ public class SentinelPollingService {
 
     private static final long MIN_INTERVAL = 15000;
     private static final long MAX_INTERVAL = 300000;
+    private static final long TICK_INTERVAL = 5000;
+    private static final int MAX_CALLS_PER_TICK = 3;
 
     public SentinelPollingService(MatchMonitoringService monitoringService,
                                   CodeforcesApiClient apiClient,
-                                  MatchStatusProducer producer) {
+                                  MatchStatusProducer producer,
+                                  PollScheduler pollScheduler,
+                                  MeterRegistry meterRegistry) {
         this.monitoringService = monitoringService;
         this.apiClient = apiClient;
         this.producer = producer;
+        this.pollScheduler = pollScheduler;
+
+        this.pollTimer = Timer.builder("sentinel.poll.duration")
+                .description("Wall time of a polling tick that called Codeforces")
+                .register(meterRegistry);
+        Gauge.builder("sentinel.poll.backoff", this, service -> service.currentBackoff / 1000.0)
+                .description("Current adaptive polling interval")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("sentinel.matches.active", activeMatchCount, AtomicInteger::get)
+                .description("Matches currently monitored")
+                .register(meterRegistry);
+        Gauge.builder("sentinel.handles.active", activeHandleCount, AtomicInteger::get)
+                .description("Handles currently monitored across all matches")
+                .register(meterRegistry);
     }
 
     @Scheduled(fixedRate = 5000)
@@ -45,14 +78,24 @@ public class SentinelPollingService {
 
         List<MonitoredMatch> activeMatches = monitoringService.getAllActiveMatches();
         if (activeMatches.isEmpty()) {
-            nextPollTime = now + 5000;
+            activeMatchCount.set(0);
+            activeHandleCount.set(0);
+            nextPollTime = now + TICK_INTERVAL;
             return;
         }
 
-        log.info("🔄 Polling {} active matches...", activeMatches.size());
+        List<MonitoredMatch> liveMatches = removeEndedMatches(activeMatches);
+        activeMatchCount.set(liveMatches.size());
+        activeHandleCount.set(liveMatches.stream().mapToInt(match -> match.userHandles().size()).sum());
+
+        List<PollScheduler.PollTarget> targets = pollScheduler.nextTargets(liveMatches, now, MAX_CALLS_PER_TICK);
+        if (targets.isEmpty()) return;
 
+        log.info("🔄 Polling {} due handles across {} active matches...", targets.size(), liveMatches.size());
+
+        Timer.Sample sample = Timer.start();
         try {
-            processMatches(activeMatches);
+            processTargets(targets, now);
 
             if (currentBackoff > MIN_INTERVAL) {
 
@@ -74,7 +117,7 @@ public class SentinelPollingService {
                 lastFailureBackoff = 0;
             }
 
-            nextPollTime = now + currentBackoff;
+            nextPollTime = now;
 
         } catch (Exception e) {
             lastFailureBackoff = currentBackoff;
@@ -83,47 +126,61 @@ public class SentinelPollingService {
             log.error("⚠️ API FAILURE! Doubling backoff to {}s.", currentBackoff/1000);
 
             nextPollTime = now + currentBackoff;
+        } finally {
+            sample.stop(pollTimer);
         }
     }
 
-    private void processMatches(List<MonitoredMatch> activeMatches) {
+    private List<MonitoredMatch> removeEndedMatches(List<MonitoredMatch> activeMatches) {
         long nowEpoch = Instant.now().getEpochSecond();
+        List<MonitoredMatch> liveMatches = new ArrayList<>();
 
         for (MonitoredMatch match : activeMatches) {
             if (nowEpoch > match.endTimeEpochSeconds()) {
                 log.info("🏁 Match {} has ended. Removing from monitoring.", match.matchId());
                 monitoringService.removeMatch(match.matchId());
+                pollScheduler.forget(match.matchId());
                 continue;
             }
+            liveMatches.add(match);
+        }
+        return liveMatches;
+    }
 
-            for (String handle : match.userHandles()) {
-                checkUserSubmissions(handle, match);
-            }
+    private void processTargets(List<PollScheduler.PollTarget> targets, long now) {
+        Map<UUID, MonitoredMatch> latestState = new HashMap<>();
+
+        for (PollScheduler.PollTarget target : targets) {
+            MonitoredMatch match = latestState.getOrDefault(target.match().matchId(), target.match());
+            latestState.put(match.matchId(), checkUserSubmissions(target.handle(), match, now));
         }
     }
 
-    private void checkUserSubmissions(String handle, MonitoredMatch match) {
+    private MonitoredMatch checkUserSubmissions(String handle, MonitoredMatch match, long now) {
         List<CodeforcesResponse.CfSubmission> submissions;
 
         try {
-            submissions = apiClient.getRecentSubmissions(handle);
-        } catch (Exception e) {
-            String errorMsg = e.getMessage() != null ? e.getMessage() : "";
-            if (errorMsg.contains("404") || errorMsg.contains("400") || errorMsg.contains("FAILED")) {
-                log.warn("⚠️ User handle '{}' invalid/private. Skipping.", handle);
-                return;
-            }
-            throw e;
+            submissions = apiClient.getRecentSubmissions(handle, match.startTimeEpochSeconds());
+        } catch (InvalidHandleException e) {
+            log.warn("⚠️ User handle '{}' invalid/private. Parking it for the rest of the match.", handle);
+            pollScheduler.park(match, handle);
+            return match;
         }
 
         boolean stateChanged = false;
+        boolean verdictPending = false;
+        long lastSubmissionTime = 0;
         MonitoredMatch currentMatchState = match;
 
         for (CodeforcesResponse.CfSubmission sub : submissions) {
             if (sub.creationTimeSeconds() < match.startTimeEpochSeconds()) continue;
+            lastSubmissionTime = Math.max(lastSubmissionTime, sub.creationTimeSeconds());
             if (match.processedSubmissionIds().contains(sub.id())) continue;
             if (!isProblemInMatch(sub.problem(), match)) continue;
-            if (sub.verdict() == null || "TESTING".equals(sub.verdict())) continue;
+            if (sub.verdict() == null || "TESTING".equals(sub.verdict())) {
+                verdictPending = true;
+                continue;
+            }
 
             String fullProblemId = sub.problem().contestId() + sub.problem().index();
 
@@ -137,6 +194,8 @@ public class SentinelPollingService {
 
                 producer.sendMatchUpdate(
                         match.matchId(),
+                        sub.id(),
+                        sub.creationTimeSeconds(),
                         handle,
                         fullProblemId,
                         "OK",
@@ -149,6 +208,8 @@ public class SentinelPollingService {
 
                 producer.sendMatchUpdate(
                         match.matchId(),
+                        sub.id(),
+                        sub.creationTimeSeconds(),
                         handle,
                         fullProblemId,
                         sub.verdict(),
@@ -164,6 +225,9 @@ public class SentinelPollingService {
         if (stateChanged) {
             monitoringService.addMatch(currentMatchState);
         }
+
+        pollScheduler.recordPoll(currentMatchState, handle, now, currentBackoff, lastSubmissionTime, verdictPending);
+        return currentMatchState;
     }
 
     private boolean isProblemInMatch(CodeforcesResponse.CfProblem problem, MonitoredMatch match) {
@@ -1,23 +1,34 @@
 package com.codingplatform.sentinel.client;
 
 import com.codingplatform.sentinel.dto.CodeforcesResponse;
+import com.codingplatform.sentinel.repository.CodeforcesResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 class CodeforcesApiClientTest {
 
     private CodeforcesApiClient apiClient;
     private MockRestServiceServer mockServer;
+    private SimpleMeterRegistry meterRegistry;
+    private CodeforcesResponseCache responseCache;
 
 
 
@@ -27,7 +38,10 @@ class CodeforcesApiClientTest {
 
         mockServer = MockRestServiceServer.bindTo(builder).build();
 
-        apiClient = new CodeforcesApiClient(builder);
+        meterRegistry = new SimpleMeterRegistry();
+        responseCache = mock(CodeforcesResponseCache.class);
+
+        apiClient = new CodeforcesApiClient(builder, responseCache, meterRegistry);
     }
 
 
@@ -63,7 +77,7 @@ class CodeforcesApiClientTest {
         mockServer.expect(requestTo(expectedUrl))
                 .andRespond(withSuccess(jsonResponse, MediaType.APPLICATION_JSON));
 
-        List<CodeforcesResponse.CfSubmission> submissions = apiClient.getRecentSubmissions("tourist");
+        List<CodeforcesResponse.CfSubmission> submissions = apiClient.getRecentSubmissions("tourist", 0L);
 
         assertThat(submissions).hasSize(1);
 
@@ -73,6 +87,9 @@ class CodeforcesApiClientTest {
         assertThat(sub.programmingLanguage()).isEqualTo("C++ 20");
         assertThat(sub.problem().name()).isEqualTo("Watermelon");
 
+        assertThat(meterRegistry.get("sentinel.codeforces.requests").tag("outcome", "ok").timer().count()).isEqualTo(1);
+        verify(responseCache).put("tourist", submissions);
+
         mockServer.verify();
     }
 
@@ -92,7 +109,7 @@ class CodeforcesApiClientTest {
         mockServer.expect(requestTo(expectedUrl))
                 .andRespond(withSuccess(jsonResponse, MediaType.APPLICATION_JSON));
 
-        List<CodeforcesResponse.CfSubmission> result = apiClient.getRecentSubmissions("unknown");
+        List<CodeforcesResponse.CfSubmission> result = apiClient.getRecentSubmissions("unknown", 0L);
 
         assertThat(result).isEmpty();
         mockServer.verify();
@@ -105,8 +122,105 @@ class CodeforcesApiClientTest {
         String handle = "tourist";
         Throwable error = new RuntimeException("Codeforces is down");
 
-        List<CodeforcesResponse.CfSubmission> result = apiClient.fallbackGetSubmissions(handle, error);
+        List<CodeforcesResponse.CfSubmission> result = apiClient.fallbackGetSubmissions(handle, 0L, error);
 
         assertThat(result).isEmpty();
+        assertThat(meterRegistry.get("sentinel.codeforces.fallbacks").counter().count()).isEqualTo(1);
+    }
+
+
+    @Test
+    @DisplayName("Should serve cached submissions without calling Codeforces")
+    void testGetRecentSubmissions_CacheHit() {
+        CodeforcesResponse.CfSubmission cachedSub = new CodeforcesResponse.CfSubmission(
+                1L, 1700000000L, "OK", null, "Java", 0, 0, 0
+        );
+        when(responseCache.get("tourist")).thenReturn(Optional.of(List.of(cachedSub)));
+
+        List<CodeforcesResponse.CfSubmission> result = apiClient.getRecentSubmissions("tourist", 0L);
+
+        assertThat(result).containsExactly(cachedSub);
+        mockServer.verify();
+    }
+
+
+    @Test
+    @DisplayName("🛡️ Should reject handles in the negative cache without calling Codeforces")
+    void testGetRecentSubmissions_KnownInvalidHandle() {
+        when(responseCache.isInvalidHandle("ghost")).thenReturn(true);
+
+        assertThatThrownBy(() -> apiClient.getRecentSubmissions("ghost", 0L))
+                .isInstanceOf(InvalidHandleException.class);
+
+        mockServer.verify();
+    }
+
+
+    @Test
+    @DisplayName("🛡️ Should remember handles that Codeforces rejects with 400")
+    void testGetRecentSubmissions_BadRequestMarksInvalid() {
+        String expectedUrl = "https://codeforces.com/api/user.status?handle=ghost&from=1&count=10";
+
+        mockServer.expect(requestTo(expectedUrl))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"status\":\"FAILED\",\"comment\":\"handle: User with handle ghost not found\"}"));
+
+        assertThatThrownBy(() -> apiClient.getRecentSubmissions("ghost", 0L))
+                .isInstanceOf(InvalidHandleException.class);
+
+        verify(responseCache).markInvalidHandle("ghost");
+        mockServer.verify();
+    }
+
+
+    @Test
+    @DisplayName("Should cache the full list and return only submissions since the requested start")
+    @SuppressWarnings("unchecked")
+    void testGetRecentSubmissions_FiltersAfterCaching() {
+        String jsonResponse = """
+            {
+                "status": "OK",
+                "result": [
+                    { "id": 3, "creationTimeSeconds": 1700000300, "verdict": "TESTING",
+                      "problem": { "contestId": "1234", "index": "A" } },
+                    { "id": 2, "creationTimeSeconds": 1700000200, "verdict": "OK",
+                      "problem": { "contestId": "1234", "index": "B" }, "author": { "members": [ { "handle": "tourist" } ] } },
+                    { "id": 1, "creationTimeSeconds": 1699999000, "verdict": "OK",
+                      "problem": { "contestId": "1234", "index": "C" } }
+                ]
+            }
+        """;
+
+        String expectedUrl = "https://codeforces.com/api/user.status?handle=tourist&from=1&count=10";
+
+        mockServer.expect(requestTo(expectedUrl))
+                .andRespond(withSuccess(jsonResponse, MediaType.APPLICATION_JSON));
+
+        List<CodeforcesResponse.CfSubmission> submissions = apiClient.getRecentSubmissions("tourist", 1700000000L);
+
+        assertThat(submissions).extracting(CodeforcesResponse.CfSubmission::id).containsExactly(3L, 2L);
+
+        ArgumentCaptor<List<CodeforcesResponse.CfSubmission>> cached = ArgumentCaptor.forClass(List.class);
+        verify(responseCache).put(eq("tourist"), cached.capture());
+        assertThat(cached.getValue()).extracting(CodeforcesResponse.CfSubmission::id).containsExactly(3L, 2L, 1L);
+        mockServer.verify();
+    }
+
+
+    @Test
+    @DisplayName("Should share one cached list between matches with different start times")
+    void testGetRecentSubmissions_CacheHitFilteredPerCaller() {
+        CodeforcesResponse.CfSubmission newer = new CodeforcesResponse.CfSubmission(
+                2L, 1700000200L, "OK", null, "Java", 0, 0, 0
+        );
+        CodeforcesResponse.CfSubmission older = new CodeforcesResponse.CfSubmission(
+                1L, 1699999000L, "OK", null, "Java", 0, 0, 0
+        );
+        when(responseCache.get("tourist")).thenReturn(Optional.of(List.of(newer, older)));
+
+        assertThat(apiClient.getRecentSubmissions("tourist", 1700000000L)).containsExactly(newer);
+        assertThat(apiClient.getRecentSubmissions("tourist", 1699990000L)).containsExactly(newer, older);
+        mockServer.verify();
     }
-}
\ No newline at end of file
+}
@@ -2,41 +2,62 @@ package com.codingplatform.sentinel.producer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.awspring.cloud.sqs.operations.SqsTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+import java.util.Collection;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class MatchStatusProducerTest {
 
     @Mock
-    private SqsTemplate sqsTemplate;
+    private SqsAsyncClient sqsAsyncClient;
 
     @Mock
     private ObjectMapper objectMapper;
 
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private MatchStatusProducer producer;
 
-    private static final String QUEUE_NAME = "match-result-queue";
+    private static final String QUEUE_URL = "http://localhost:4566/000000000000/match-result-queue";
 
 
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(sqsAsyncClient.getQueueUrl(any(GetQueueUrlRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetQueueUrlResponse.builder().queueUrl(QUEUE_URL).build()));
+    }
+
+
     @Test
-    @DisplayName("Should create event, serialize it, and send to SQS")
+    @DisplayName("Should buffer the event and send it in a batch on flush")
     void testSendMatchUpdate_Success() throws Exception {
         UUID matchId = UUID.randomUUID();
         String handle = "tourist";
@@ -45,13 +66,28 @@ class MatchStatusProducerTest {
         long time = 30L;
         long memory = 1024L;
         String expectedJson = "{\"status\":\"OK\"}";
+        long creationTime = System.currentTimeMillis() / 1000 - 5;
 
         when(objectMapper.writeValueAsString(any(MatchStatusProducer.MatchUpdateEvent.class)))
                 .thenReturn(expectedJson);
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder().build()));
+
+        producer.sendMatchUpdate(matchId, 999L, creationTime, handle, problem, verdict, time, memory);
+
+        verify(sqsAsyncClient, never()).sendMessageBatch(any(SendMessageBatchRequest.class));
 
-        producer.sendMatchUpdate(matchId, handle, problem, verdict, time, memory);
+        producer.flush();
 
-        verify(sqsTemplate).send(eq(QUEUE_NAME), eq(expectedJson));
+        ArgumentCaptor<SendMessageBatchRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsAsyncClient).sendMessageBatch(requestCaptor.capture());
+
+        SendMessageBatchRequest request = requestCaptor.getValue();
+        assertThat(request.queueUrl()).isEqualTo(QUEUE_URL);
+        assertThat(request.entries()).hasSize(1);
+        assertThat(request.entries().get(0).id()).isEqualTo("999");
+        assertThat(request.entries().get(0).messageBody()).isEqualTo(expectedJson);
+        assertThat(request.entries().get(0).messageAttributes().get("submissionId").stringValue()).isEqualTo("999");
 
         ArgumentCaptor<MatchStatusProducer.MatchUpdateEvent> captor =
                 ArgumentCaptor.forClass(MatchStatusProducer.MatchUpdateEvent.class);
@@ -60,12 +96,40 @@ class MatchStatusProducerTest {
 
         MatchStatusProducer.MatchUpdateEvent event = captor.getValue();
         assertThat(event.matchId()).isEqualTo(matchId);
+        assertThat(event.submissionId()).isEqualTo(999L);
         assertThat(event.userHandle()).isEqualTo(handle);
         assertThat(event.problemId()).isEqualTo(problem);
         assertThat(event.verdict()).isEqualTo(verdict);
         assertThat(event.timeConsumedMillis()).isEqualTo(time);
         assertThat(event.memoryConsumedBytes()).isEqualTo(memory);
         assertThat(event.timestamp()).isGreaterThan(0);
+
+        assertThat(meterRegistry.get("sentinel.producer.published").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("sentinel.verdict.lag").timer().totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(5);
+    }
+
+
+    @Test
+    @DisplayName("Should split buffered events into batches of at most 10 and drop duplicates")
+    void testFlush_SplitsIntoBatches() throws Exception {
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder().build()));
+
+        UUID matchId = UUID.randomUUID();
+        for (long id = 1; id <= 12; id++) {
+            producer.sendMatchUpdate(matchId, id, 0L, "user", "A", "OK", 0, 0);
+        }
+        producer.sendMatchUpdate(matchId, 1L, 0L, "user", "A", "OK", 0, 0);
+
+        producer.flush();
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsAsyncClient, times(2)).sendMessageBatch(captor.capture());
+
+        assertThat(captor.getAllValues().get(0).entries()).hasSize(10);
+        assertThat(captor.getAllValues().get(1).entries()).hasSize(2);
+        verify(sqsAsyncClient, times(1)).getQueueUrl(any(GetQueueUrlRequest.class));
     }
 
 
@@ -75,24 +139,48 @@ class MatchStatusProducerTest {
         when(objectMapper.writeValueAsString(any()))
                 .thenThrow(new JsonProcessingException("Bad JSON") {});
 
-        producer.sendMatchUpdate(UUID.randomUUID(), "user", "A", "OK", 0, 0);
+        producer.sendMatchUpdate(UUID.randomUUID(), 1L, 0L, "user", "A", "OK", 0, 0);
+        producer.flush();
+
+        verify(sqsAsyncClient, never()).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+
+    @Test
+    @DisplayName("Should re-queue entries that SQS rejected in a batch")
+    void testFlush_PartialFailureRequeued() throws Exception {
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .failed(BatchResultErrorEntry.builder().id("2").code("InternalError").senderFault(false).build())
+                        .build()));
+
+        UUID matchId = UUID.randomUUID();
+        producer.sendMatchUpdate(matchId, 1L, 0L, "user", "A", "OK", 0, 0);
+        producer.sendMatchUpdate(matchId, 2L, 0L, "user", "A", "WRONG_ANSWER", 0, 0);
+
+        producer.flush();
 
-        verify(sqsTemplate, never()).send(anyString(), anyString());
+        Collection<?> buffer = (Collection<?>) ReflectionTestUtils.getField(producer, "buffer");
+        assertThat(buffer).hasSize(1);
+        assertThat(meterRegistry.get("sentinel.producer.published").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("sentinel.producer.retries").counter().count()).isEqualTo(1);
     }
 
 
     @Test
-    @DisplayName("Should handle SQS Error gracefully (Log & No Crash)")
+    @DisplayName("Should handle SQS Error gracefully (Re-queue & No Crash)")
     void testSendMatchUpdate_SqsFail() throws Exception {
         when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("AWS Down")));
 
-        doThrow(new RuntimeException("AWS Down"))
-                .when(sqsTemplate).send(anyString(), anyString());
+        producer.sendMatchUpdate(UUID.randomUUID(), 1L, 0L, "user", "A", "OK", 0, 0);
 
-        assertThatCode(() ->
-                producer.sendMatchUpdate(UUID.randomUUID(), "user", "A", "OK", 0, 0)
-        ).doesNotThrowAnyException();
+        assertThatCode(() -> producer.flush()).doesNotThrowAnyException();
 
-        verify(sqsTemplate).send(eq(QUEUE_NAME), anyString());
+        verify(sqsAsyncClient).sendMessageBatch(any(SendMessageBatchRequest.class));
+        Collection<?> buffer = (Collection<?>) ReflectionTestUtils.getField(producer, "buffer");
+        assertThat(buffer).hasSize(1);
     }
-}
\ No newline at end of file
+}
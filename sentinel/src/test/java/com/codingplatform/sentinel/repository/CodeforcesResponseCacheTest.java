@@ -0,0 +1,99 @@
+package com.codingplatform.sentinel.repository;
+
+import com.codingplatform.sentinel.dto.CodeforcesResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CodeforcesResponseCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    private CodeforcesResponseCache cache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOps);
+
+        cache = new CodeforcesResponseCache(stringRedisTemplate, objectMapper, Duration.ofSeconds(4), Duration.ofHours(3));
+    }
+
+
+    @Test
+    @DisplayName("Should round-trip submissions under a handle-only key that expires before the next poll")
+    void testPutAndGet() {
+        CodeforcesResponse.CfProblem prob = new CodeforcesResponse.CfProblem("123", "A", "Problem A", "PROGRAMMING", 800);
+        CodeforcesResponse.CfSubmission sub = new CodeforcesResponse.CfSubmission(
+                999L, 1700000000L, "OK", prob, "Java", 100, 2048, 1
+        );
+
+        cache.put("Tourist", List.of(sub));
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(valueOps).set(eq("sentinel:cf:status:tourist"), json.capture(), eq(Duration.ofSeconds(4)));
+
+        when(valueOps.get("sentinel:cf:status:tourist")).thenReturn(json.getValue());
+
+        Optional<List<CodeforcesResponse.CfSubmission>> result = cache.get("tourist");
+
+        assertThat(result).contains(List.of(sub));
+    }
+
+
+    @Test
+    @DisplayName("Should report a miss when nothing is cached")
+    void testGet_Miss() {
+        when(valueOps.get(anyString())).thenReturn(null);
+
+        assertThat(cache.get("tourist")).isEmpty();
+    }
+
+
+    @Test
+    @DisplayName("🛡️ Should treat Redis failures as a cache miss")
+    void testGet_RedisDown() {
+        when(valueOps.get(anyString())).thenThrow(new RuntimeException("Redis Down"));
+
+        assertThat(cache.get("tourist")).isEmpty();
+    }
+
+
+    @Test
+    @DisplayName("Should store invalid handles in the negative cache for the whole match")
+    void testMarkInvalidHandle() {
+        cache.markInvalidHandle("Ghost");
+
+        verify(valueOps).set(eq("sentinel:cf:invalid:ghost"), anyString(), eq(Duration.ofHours(3)));
+
+        when(stringRedisTemplate.hasKey("sentinel:cf:invalid:ghost")).thenReturn(true);
+
+        assertThat(cache.isInvalidHandle("GHOST")).isTrue();
+        verify(valueOps, never()).get(any());
+    }
+}
@@ -0,0 +1,112 @@
+package com.codingplatform.sentinel.service;
+
+import com.codingplatform.sentinel.dto.MonitoredMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PollSchedulerTest {
+
+    private PollScheduler scheduler;
+    private long nowMillis;
+    private long nowEpoch;
+
+
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new PollScheduler();
+        nowMillis = System.currentTimeMillis();
+        nowEpoch = nowMillis / 1000;
+    }
+
+
+    @Test
+    @DisplayName("Should return new handles immediately, limited by the budget")
+    void testNextTargets_NewHandlesDueWithinBudget() {
+        MonitoredMatch match = match(List.of("a", "b", "c"), nowEpoch + 3600);
+
+        List<PollScheduler.PollTarget> targets = scheduler.nextTargets(List.of(match), nowMillis, 2);
+
+        assertThat(targets).hasSize(2);
+    }
+
+
+    @Test
+    @DisplayName("Should poll a handle with a TESTING verdict sooner than an idle one")
+    void testRecordPoll_PendingVerdictIsHot() {
+        MonitoredMatch match = match(List.of("busy", "idle"), nowEpoch + 3600);
+
+        scheduler.recordPoll(match, "busy", nowMillis, 15000, nowEpoch - 10, true);
+        scheduler.recordPoll(match, "idle", nowMillis, 15000, 0, false);
+
+        List<String> dueAfterFiveSeconds = handles(scheduler.nextTargets(List.of(match), nowMillis + 5000, 10));
+        List<String> dueAfterOneMinute = handles(scheduler.nextTargets(List.of(match), nowMillis + 60000, 10));
+
+        assertThat(dueAfterFiveSeconds).containsExactly("busy");
+        assertThat(dueAfterOneMinute).containsExactlyInAnyOrder("busy", "idle");
+    }
+
+
+    @Test
+    @DisplayName("Should tighten cadence in the final minutes of a match")
+    void testRecordPoll_FinalMinutes() {
+        MonitoredMatch endingMatch = match(List.of("tourist"), nowEpoch + 120);
+
+        scheduler.recordPoll(endingMatch, "tourist", nowMillis, 15000, 0, false);
+
+        assertThat(scheduler.nextTargets(List.of(endingMatch), nowMillis + 7500, 10)).hasSize(1);
+    }
+
+
+    @Test
+    @DisplayName("Should order overdue handles by how long they have waited")
+    void testNextTargets_MostOverdueFirst() {
+        MonitoredMatch match = match(List.of("late", "later"), nowEpoch + 3600);
+
+        scheduler.recordPoll(match, "late", nowMillis, 15000, nowEpoch, false);
+        scheduler.recordPoll(match, "later", nowMillis - 10000, 15000, nowEpoch, false);
+
+        List<PollScheduler.PollTarget> targets = scheduler.nextTargets(List.of(match), nowMillis + 60000, 1);
+
+        assertThat(handles(targets)).containsExactly("later");
+    }
+
+
+    @Test
+    @DisplayName("Should never hand out a parked handle again")
+    void testPark() {
+        MonitoredMatch match = match(List.of("ghost"), nowEpoch + 3600);
+
+        scheduler.park(match, "ghost");
+
+        assertThat(scheduler.nextTargets(List.of(match), nowMillis + 3_600_000, 10)).isEmpty();
+    }
+
+
+    @Test
+    @DisplayName("Should drop schedules of forgotten matches")
+    void testForget() {
+        MonitoredMatch match = match(List.of("tourist"), nowEpoch + 3600);
+        scheduler.recordPoll(match, "tourist", nowMillis, 15000, 0, false);
+
+        scheduler.forget(match.matchId());
+
+        assertThat(scheduler.nextTargets(List.of(match), nowMillis, 10)).hasSize(1);
+    }
+
+
+    private MonitoredMatch match(List<String> handles, long endTime) {
+        return new MonitoredMatch(UUID.randomUUID(), handles, List.of("123A"), endTime, nowEpoch - 600, new HashSet<>());
+    }
+
+    private List<String> handles(List<PollScheduler.PollTarget> targets) {
+        return targets.stream().map(PollScheduler.PollTarget::handle).toList();
+    }
+}
@@ -1,10 +1,12 @@
 package com.codingplatform.sentinel.service;
 
 import com.codingplatform.sentinel.client.CodeforcesApiClient;
+import com.codingplatform.sentinel.client.InvalidHandleException;
 import com.codingplatform.sentinel.dto.CodeforcesResponse;
 import com.codingplatform.sentinel.dto.MonitoredMatch;
 import com.codingplatform.sentinel.producer.MatchStatusProducer;
 import com.codingplatform.sentinel.repository.MatchMonitoringService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -34,6 +37,12 @@ class SentinelPollingServiceTest {
     @Mock
     private MatchStatusProducer producer;
 
+    @Spy
+    private PollScheduler pollScheduler = new PollScheduler();
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private SentinelPollingService pollingService;
 
@@ -97,12 +106,12 @@ class SentinelPollingServiceTest {
         CodeforcesResponse.CfSubmission sub = new CodeforcesResponse.CfSubmission(
                 999L, Instant.now().getEpochSecond(), "OK", prob, "Java", 100, 2048, 1
         );
-        when(apiClient.getRecentSubmissions(handle)).thenReturn(List.of(sub));
+        when(apiClient.getRecentSubmissions(eq(handle), anyLong())).thenReturn(List.of(sub));
 
         pollingService.pollMatches();
 
         verify(producer).sendMatchUpdate(
-                eq(matchId), eq(handle), eq("123A"), eq("OK"), eq(100L), eq(2048L)
+                eq(matchId), eq(999L), anyLong(), eq(handle), eq("123A"), eq("OK"), eq(100L), eq(2048L)
         );
 
         ArgumentCaptor<MonitoredMatch> matchCaptor = ArgumentCaptor.forClass(MonitoredMatch.class);
@@ -131,7 +140,7 @@ class SentinelPollingServiceTest {
                 3L, Instant.now().getEpochSecond(), "TESTING", probA, "Java", 0, 0, 0
         );
 
-        when(apiClient.getRecentSubmissions(handle)).thenReturn(List.of(oldSub, wrongProbSub, testingSub));
+        when(apiClient.getRecentSubmissions(eq(handle), anyLong())).thenReturn(List.of(oldSub, wrongProbSub, testingSub));
 
         pollingService.pollMatches();
 
@@ -144,7 +153,7 @@ class SentinelPollingServiceTest {
     @DisplayName("Should double backoff on API Failure (Exponential Backoff)")
     void testPollMatches_ApiFailure_BackoffIncrease() {
         when(monitoringService.getAllActiveMatches()).thenReturn(List.of(activeMatch));
-        when(apiClient.getRecentSubmissions(anyString())).thenThrow(new RuntimeException("CF Down"));
+        when(apiClient.getRecentSubmissions(anyString(), anyLong())).thenThrow(new RuntimeException("CF Down"));
 
         long initialBackoff = 15000L;
         ReflectionTestUtils.setField(pollingService, "currentBackoff", initialBackoff);
@@ -160,7 +169,7 @@ class SentinelPollingServiceTest {
     @DisplayName("✅ Should decrease backoff on API Success (Adaptive Recovery)")
     void testPollMatches_ApiSuccess_BackoffRecovery() {
         when(monitoringService.getAllActiveMatches()).thenReturn(List.of(activeMatch));
-        when(apiClient.getRecentSubmissions(anyString())).thenReturn(Collections.emptyList());
+        when(apiClient.getRecentSubmissions(anyString(), anyLong())).thenReturn(Collections.emptyList());
 
         long highBackoff = 60000L;
         ReflectionTestUtils.setField(pollingService, "currentBackoff", highBackoff);
@@ -178,8 +187,8 @@ class SentinelPollingServiceTest {
     void testPollMatches_User404_NoBackoff() {
         when(monitoringService.getAllActiveMatches()).thenReturn(List.of(activeMatch));
 
-        when(apiClient.getRecentSubmissions(handle))
-                .thenThrow(new RuntimeException("FAILED: Handle not found"));
+        when(apiClient.getRecentSubmissions(eq(handle), anyLong()))
+                .thenThrow(new InvalidHandleException(handle));
 
         long initialBackoff = 15000L;
         ReflectionTestUtils.setField(pollingService, "currentBackoff", initialBackoff);
@@ -190,6 +199,38 @@ class SentinelPollingServiceTest {
 
         assertThat(newBackoff).isEqualTo(initialBackoff);
 
-        verify(apiClient).getRecentSubmissions(handle);
+        verify(apiClient).getRecentSubmissions(eq(handle), anyLong());
+
+        ReflectionTestUtils.setField(pollingService, "nextPollTime", 0L);
+        pollingService.pollMatches();
+
+        verify(apiClient, times(1)).getRecentSubmissions(eq(handle), anyLong());
+    }
+
+
+    @Test
+    @DisplayName("Should not poll a handle again before its scheduled time")
+    void testPollMatches_RespectsPerHandleSchedule() {
+        when(monitoringService.getAllActiveMatches()).thenReturn(List.of(activeMatch));
+        when(apiClient.getRecentSubmissions(eq(handle), anyLong())).thenReturn(Collections.emptyList());
+
+        pollingService.pollMatches();
+        pollingService.pollMatches();
+
+        verify(apiClient, times(1)).getRecentSubmissions(eq(handle), anyLong());
+    }
+
+
+    @Test
+    @DisplayName("Should publish active match and handle gauges")
+    void testPollMatches_ActiveGauges() {
+        when(monitoringService.getAllActiveMatches()).thenReturn(List.of(activeMatch));
+        when(apiClient.getRecentSubmissions(eq(handle), anyLong())).thenReturn(Collections.emptyList());
+
+        pollingService.pollMatches();
+
+        assertThat(meterRegistry.get("sentinel.matches.active").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("sentinel.handles.active").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("sentinel.poll.duration").timer().count()).isEqualTo(1);
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ data "aws_ssm_parameter" "judge0_api_key" { name = "/${var.project_name}/prod/ju
 data "aws_ssm_parameter" "lambda_secret" { name = "/${var.project_name}/prod/lambda_secret" }
 data "aws_ssm_parameter" "admin_email" { name = "/${var.project_name}/prod/admin_email" }
 data "aws_ssm_parameter" "admin_password" { name = "/${var.project_name}/prod/admin_password" }
+data "aws_ssm_parameter" "origin_verify_secret" { name = "/${var.project_name}/prod/origin_verify_secret" }
 
 resource "aws_security_group" "alb_sg" {
   name        = "${var.project_name}-alb-sg"
@@ -118,6 +119,11 @@ resource "aws_sqs_queue" "submission_queue" {
   tags = { Name = "${var.project_name}-submission-queue" }
 }
 
+resource "aws_sqs_queue" "submission_priority_queue" {
+  name = "submission-priority-queue"
+  tags = { Name = "${var.project_name}-submission-priority-queue" }
+}
+
 resource "aws_s3_bucket" "backend_storage" {
   bucket_prefix = "${var.project_name}-backend-storage-"
   force_destroy = true
@@ -218,12 +224,15 @@ resource "aws_ecs_task_definition" "main_backend" {
         { name = "SPRING_DATA_REDIS_HOST", value = aws_elasticache_cluster.redis.cache_nodes[0].address },
         { name = "SPRING_DATA_REDIS_PORT", value = "6379" },
         { name = "AWS_SQS_QUEUE_NAME", value = aws_sqs_queue.submission_queue.name },
+        { name = "AWS_SQS_PRIORITY_QUEUE_NAME", value = aws_sqs_queue.submission_priority_queue.name },
         { name = "AWS_S3_BUCKET_NAME", value = aws_s3_bucket.backend_storage.id },
         { name = "SPRING_CLOUD_AWS_REGION_STATIC", value = var.aws_region },
         {
           name = "SPRING_APPLICATION_JSON",
           value = jsonencode({
             "app.frontend.url" = "https://${aws_cloudfront_distribution.frontend.domain_name}",
+            "problem.statement.bucket-name"                    = aws_s3_bucket.frontend_hosting.id,
+            "problem.statement.public-base-url"                = "https://${aws_cloudfront_distribution.frontend.domain_name}",
             "aws.s3.test-case-cache-ttl-minutes"               = "30",
             "problem.upload.max-size-kb"                       = "300",
             "permissions.expiry-minutes"                       = "45",
@@ -248,7 +257,8 @@ resource "aws_ecs_task_definition" "main_backend" {
         { name = "JUDGE0_API_KEY", valueFrom = data.aws_ssm_parameter.judge0_api_key.arn },
         { name = "LAMBDA_INTERNAL_SECRET", valueFrom = data.aws_ssm_parameter.lambda_secret.arn },
         { name = "ADMIN_DEFAULT_EMAIL", valueFrom = data.aws_ssm_parameter.admin_email.arn },
-        { name = "ADMIN_DEFAULT_PASSWORD", valueFrom = data.aws_ssm_parameter.admin_password.arn }
+        { name = "ADMIN_DEFAULT_PASSWORD", valueFrom = data.aws_ssm_parameter.admin_password.arn },
+        { name = "AUTH_CLIENT_ADDRESS_ORIGIN_SECRET", valueFrom = data.aws_ssm_parameter.origin_verify_secret.arn }
       ]
       logConfiguration = {
         logDriver = "awslogs"
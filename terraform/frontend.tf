@@ -6,6 +6,11 @@ data "aws_cloudfront_origin_request_policy" "all_viewer" {
   name = "Managed-AllViewer"
 }
 
+# Same as AllViewer plus CloudFront-Viewer-Address, which the backend uses as the client IP for login throttling.
+data "aws_cloudfront_origin_request_policy" "all_viewer_and_cloudfront_headers" {
+  name = "Managed-AllViewerAndCloudFrontHeaders-2022-06"
+}
+
 resource "aws_cloudfront_response_headers_policy" "coop_policy" {
   name    = "${var.project_name}-coop-policy"
   comment = "Allow Google OAuth Popups"
@@ -66,6 +71,12 @@ resource "aws_cloudfront_distribution" "frontend" {
     domain_name = aws_lb.main.dns_name
     origin_id   = "ALB"
 
+    # Lets the backend tell requests relayed by CloudFront from ones sent straight to the public ALB.
+    custom_header {
+      name  = "X-Origin-Verify"
+      value = data.aws_ssm_parameter.origin_verify_secret.value
+    }
+
     custom_origin_config {
       http_port              = 80
       https_port             = 443
@@ -81,17 +92,10 @@ resource "aws_cloudfront_distribution" "frontend" {
     target_origin_id = "ALB"
     response_headers_policy_id = aws_cloudfront_response_headers_policy.coop_policy.id
 
-    forwarded_values {
-      query_string = true
-      headers      = ["*"]
-      cookies {
-        forward = "all"
-      }
-    }
+    cache_policy_id          = data.aws_cloudfront_cache_policy.caching_disabled.id
+    origin_request_policy_id = data.aws_cloudfront_origin_request_policy.all_viewer_and_cloudfront_headers.id
+
     viewer_protocol_policy = "https-only"
-    min_ttl                = 0
-    default_ttl            = 0
-    max_ttl                = 0
   }
 
   ordered_cache_behavior {
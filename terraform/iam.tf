@@ -56,7 +56,8 @@ resource "aws_iam_policy" "ecs_task_custom_policy" {
         Resource = [
           aws_sqs_queue.match_watch_queue.arn,
           aws_sqs_queue.match_result_queue.arn,
-          aws_sqs_queue.submission_queue.arn
+          aws_sqs_queue.submission_queue.arn,
+          aws_sqs_queue.submission_priority_queue.arn
         ]
       },
       {
@@ -71,6 +72,16 @@ resource "aws_iam_policy" "ecs_task_custom_policy" {
           aws_s3_bucket.backend_storage.arn,
           "${aws_s3_bucket.backend_storage.arn}/*"
         ]
+      },
+      {
+        Effect = "Allow"
+        Action = [
+          "s3:PutObject",
+          "s3:DeleteObject"
+        ]
+        Resource = [
+          "${aws_s3_bucket.frontend_hosting.arn}/problem-statements/*"
+        ]
       }
     ]
   })